@@ -232,17 +232,19 @@ public class AdminRestController {
     /**
      * DB에서 서울특별시 물건 목록 조회 (페이징)
      * GET /api/admin/db/items-seoul?page=1&size=50
+     * 다음 페이지는 응답의 nextCursor 를 cursor 로 전달 (키셋)
      */
     @GetMapping("/db/items-seoul")
     public ResponseEntity<Map<String, Object>> getSeoulItemsFromDb(
             @RequestParam(name = "page", defaultValue = "1") int page,
-            @RequestParam(name = "size", defaultValue = "50") int size) {
+            @RequestParam(name = "size", defaultValue = "50") int size,
+            @RequestParam(name = "cursor", required = false) String cursor) {
         
         log.info("========================================");
         log.info("🌐 [URL 호출] GET /api/admin/db/items-seoul?page={}&size={}", page, size);
         log.info("🔍 [DB 조회 시작] 서울특별시 목록 조회");
         
-        return adminService.getSeoulItemsFromDbResponse(page, size).toResponseEntity();
+        return adminService.getSeoulItemsFromDbResponse(page, size, cursor).toResponseEntity();
     }
     
     /**
@@ -262,17 +264,19 @@ public class AdminRestController {
     /**
      * DB에서 전체 물건 목록 조회 (페이징)
      * GET /api/admin/db/items?page=1&size=20
+     * 다음 페이지는 응답의 nextCursor 를 cursor 로 전달 (키셋)
      */
     @GetMapping("/db/items")
     public ResponseEntity<Map<String, Object>> getAllItemsFromDb(
             @RequestParam(name = "page", defaultValue = "1") int page,
-            @RequestParam(name = "size", defaultValue = "20") int size) {
+            @RequestParam(name = "size", defaultValue = "20") int size,
+            @RequestParam(name = "cursor", required = false) String cursor) {
         
         log.info("========================================");
         log.info("🌐 [URL 호출] GET /api/admin/db/items?page={}&size={}", page, size);
         log.info("🔍 [DB 조회 시작] 전체 목록 조회");
         
-        return adminService.getAllItemsWithPagingResponse(page, size).toResponseEntity();
+        return adminService.getAllItemsWithPagingResponse(page, size, cursor).toResponseEntity();
     }
 
     // =============================================================================
@@ -436,5 +440,118 @@ public class AdminRestController {
         
         return adminService.deleteBoardResponse(boardNo).toResponseEntity();
     }
+    
+    // =============================================================================
+    // 시스템 메트릭
+    // =============================================================================
+    
+    /**
+     * 외부 API HTTP 커넥션 풀 상태
+     * GET /api/admin/metrics/http-pool
+     */
+    @GetMapping("/metrics/http-pool")
+    public ResponseEntity<Map<String, Object>> getHttpPoolMetrics() {
+        log.info("🌐 [URL 호출] GET /api/admin/metrics/http-pool");
+        
+        return adminService.getHttpPoolMetricsResponse().toResponseEntity();
+    }
+    
+    /**
+     * 물건 목록 읽기 캐시 상태
+     * GET /api/admin/metrics/read-cache
+     */
+    @GetMapping("/metrics/read-cache")
+    public ResponseEntity<Map<String, Object>> getReadCacheMetrics() {
+        log.info("🌐 [URL 호출] GET /api/admin/metrics/read-cache");
+        
+        return adminService.getReadCacheMetricsResponse().toResponseEntity();
+    }
+    
+    /**
+     * 물건 검색 색인 상태
+     * GET /api/admin/metrics/search-index
+     */
+    @GetMapping("/metrics/search-index")
+    public ResponseEntity<Map<String, Object>> getSearchIndexMetrics() {
+        log.info("🌐 [URL 호출] GET /api/admin/metrics/search-index");
+        
+        return adminService.getSearchIndexMetricsResponse().toResponseEntity();
+    }
+    
+    /**
+     * 조회수 쓰기 지연 버퍼 상태
+     * GET /api/admin/metrics/view-counter
+     */
+    @GetMapping("/metrics/view-counter")
+    public ResponseEntity<Map<String, Object>> getViewCounterMetrics() {
+        log.info("🌐 [URL 호출] GET /api/admin/metrics/view-counter");
+        
+        return adminService.getViewCounterMetricsResponse().toResponseEntity();
+    }
+    
+    /**
+     * 메일 발송 대기열 상태
+     * GET /api/admin/metrics/mail-outbox
+     */
+    @GetMapping("/metrics/mail-outbox")
+    public ResponseEntity<Map<String, Object>> getMailOutboxMetrics() {
+        log.info("🌐 [URL 호출] GET /api/admin/metrics/mail-outbox");
+        
+        return adminService.getMailOutboxMetricsResponse().toResponseEntity();
+    }
+    
+    /**
+     * 결제 준비 정보 임시 저장소 상태
+     * GET /api/admin/metrics/pending-payments
+     */
+    @GetMapping("/metrics/pending-payments")
+    public ResponseEntity<Map<String, Object>> getPendingPaymentMetrics() {
+        log.info("🌐 [URL 호출] GET /api/admin/metrics/pending-payments");
+        
+        return adminService.getPendingPaymentMetricsResponse().toResponseEntity();
+    }
+    
+    /**
+     * 경매 실시간 가격 스트림 상태
+     * GET /api/admin/metrics/auction-stream
+     */
+    @GetMapping("/metrics/auction-stream")
+    public ResponseEntity<Map<String, Object>> getAuctionStreamMetrics() {
+        log.info("🌐 [URL 호출] GET /api/admin/metrics/auction-stream");
+        
+        return adminService.getAuctionStreamMetricsResponse().toResponseEntity();
+    }
+    
+    /**
+     * 가상 스레드 모드 상태
+     * GET /api/admin/metrics/virtual-threads
+     */
+    @GetMapping("/metrics/virtual-threads")
+    public ResponseEntity<Map<String, Object>> getVirtualThreadMetrics() {
+        log.info("🌐 [URL 호출] GET /api/admin/metrics/virtual-threads");
+        
+        return adminService.getVirtualThreadMetricsResponse().toResponseEntity();
+    }
+    
+    /**
+     * 데이터 보관 정책 상태
+     * GET /api/admin/metrics/retention
+     */
+    @GetMapping("/metrics/retention")
+    public ResponseEntity<Map<String, Object>> getRetentionMetrics() {
+        log.info("🌐 [URL 호출] GET /api/admin/metrics/retention");
+        
+        return adminService.getRetentionMetricsResponse().toResponseEntity();
+    }
+    
+    /**
+     * 조회 API 조건부 GET 상태
+     * GET /api/admin/metrics/http-cache
+     */
+    @GetMapping("/metrics/http-cache")
+    public ResponseEntity<Map<String, Object>> getHttpCacheMetrics() {
+        log.info("🌐 [URL 호출] GET /api/admin/metrics/http-cache");
+        
+        return adminService.getHttpCacheMetricsResponse().toResponseEntity();
+    }
 }
-
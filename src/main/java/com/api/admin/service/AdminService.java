@@ -7,6 +7,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.core5.pool.PoolStats;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -16,16 +18,28 @@ import com.api.item.domain.KamcoItem;
 import com.api.member.domain.Member;
 import com.api.item.domain.PublicAuctionInfo;
 import com.api.item.dto.ItemWithHistory;
+import com.api.item.dto.KamcoItemPageQuery;
 import com.api.item.dto.KamcoItemResponse;
 import com.api.member.dto.MemberResponse;
+import com.api.common.dto.KeysetPage;
 import com.api.common.dto.ServiceResponse;
 import com.api.member.mapper.MemberMapper;
 import com.api.item.mapper.PublicAuctionInfoMapper;
 import com.api.item.service.OnbidApiService;
+import com.api.item.service.KamcoItemReadCache;
+import com.api.item.service.KamcoItemSearchIndex;
 import com.api.item.service.KamcoItemService;
 import com.api.item.service.KamcoItemSyncScheduler;
+import com.api.item.service.KamcoItemViewCounter;
+import com.api.item.service.DataRetentionService;
+import com.api.item.service.KamcoItemPriceHistoryService;
 import com.api.member.service.MemberService;
+import com.api.favorite.service.MailOutboxService;
+import com.api.payment.service.PendingPaymentStore;
+import com.api.auction.service.AuctionPriceStreamService;
 import com.api.auction.service.AuctionService;
+import com.api.config.ConditionalGetInterceptor;
+import com.api.config.VirtualThreadPinningMonitor;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -42,6 +56,17 @@ public class AdminService {
     private final MemberService memberService;
     private final MemberMapper memberMapper;
     private final AuctionService auctionService;
+    private final PoolingHttpClientConnectionManager httpClientConnectionManager;
+    private final KamcoItemReadCache readCache;
+    private final KamcoItemSearchIndex searchIndex;
+    private final KamcoItemViewCounter viewCounter;
+    private final MailOutboxService mailOutboxService;
+    private final PendingPaymentStore pendingPaymentStore;
+    private final AuctionPriceStreamService priceStreamService;
+    private final VirtualThreadPinningMonitor virtualThreadMonitor;
+    private final DataRetentionService retentionService;
+    private final KamcoItemPriceHistoryService priceHistoryService;
+    private final ConditionalGetInterceptor conditionalGetInterceptor;
     /**
      * 물건번호로 단건 조회 (Admin용)
      */
@@ -90,16 +115,8 @@ public class AdminService {
                 return null;
             }
             
-            // ItemWithHistory로 변환
-            ItemWithHistory history = new ItemWithHistory();
-            history.setCltrNo(cltrNo);
-            history.setCltrNm(item.getCltrNm());
-            history.setLdnmAdrs(item.getLdnmAdrs());
-            history.setLatest(item);
-            history.setPast(new ArrayList<>()); // API에서는 이력 조회 불가, DB에서 조회 필요
-            history.setTotalBidCount(1);
-            history.setFirstPrice(item.getApslAsesAvgAmt());
-            history.setCurrentPrice(item.getMinBidPrc());
+            // 최신 회차는 API 값, 과거 회차는 DB 가격 이력에서 조회
+            ItemWithHistory history = priceHistoryService.buildHistory(item, priceHistoryService.getHistory(cltrNo));
             
             log.info("✅ 물건 이력 조회 성공: {}", cltrNo);
             return history;
@@ -397,6 +414,13 @@ public class AdminService {
      */
     @Transactional
     public int savePublicAuctionInfo(PublicAuctionInfo info) {
+        int saved = upsertPublicAuctionInfo(info);
+        // 조회 API ETag 가 데이터 버전을 따르므로 커밋 후 버전 증가
+        readCache.invalidateAfterCommit("savePublicAuctionInfo");
+        return saved;
+    }
+
+    private int upsertPublicAuctionInfo(PublicAuctionInfo info) {
         try {
             log.info("공매 물건 상세 정보 저장/업데이트: pbctNo={}, cltrNo={}", info.getPbctNo(), info.getCltrNo());
             return publicAuctionInfoMapper.insertOrUpdate(info);
@@ -414,13 +438,17 @@ public class AdminService {
         int count = 0;
         for (PublicAuctionInfo info : infoList) {
             try {
-                count += savePublicAuctionInfo(info);
+                count += upsertPublicAuctionInfo(info);
             } catch (Exception e) {
                 log.error("일괄 저장 중 오류 발생 (pbctNo={}, cltrNo={}): {}",
                     info.getPbctNo(), info.getCltrNo(), e.getMessage());
             }
         }
         log.info("공매 물건 상세 정보 일괄 저장 완료: {} 건", count);
+        if (count > 0) {
+            // 일괄 저장은 커밋 후 한 번만 버전 증가
+            readCache.invalidateAfterCommit("savePublicAuctionInfoBatch");
+        }
         return count;
     }
 
@@ -459,7 +487,11 @@ public class AdminService {
     @Transactional
     public int deletePublicAuctionInfo(String pbctNo, String cltrNo) {
         log.info("공매 물건 상세 정보 삭제: pbctNo={}, cltrNo={}", pbctNo, cltrNo);
-        return publicAuctionInfoMapper.delete(pbctNo, cltrNo);
+        int deleted = publicAuctionInfoMapper.delete(pbctNo, cltrNo);
+        if (deleted > 0) {
+            readCache.invalidateAfterCommit("deletePublicAuctionInfo");
+        }
+        return deleted;
     }
 
     /**
@@ -607,23 +639,13 @@ public class AdminService {
         }
     }
 
-    public ServiceResponse<Map<String, Object>> getSeoulItemsFromDbResponse(int page, int size) {
+    public ServiceResponse<Map<String, Object>> getSeoulItemsFromDbResponse(int page, int size, String cursor) {
         Map<String, Object> response = new HashMap<>();
 
         try {
-            List<KamcoItem> items = kamcoItemService.getBySido("서울특별시");
-            if (items == null) {
-                items = new ArrayList<>();
-            }
-
-            List<KamcoItem> pagedItems = new ArrayList<>();
-            if (!items.isEmpty()) {
-                int start = (page - 1) * size;
-                int end = Math.min(start + size, items.size());
-                if (start < items.size()) {
-                    pagedItems = items.subList(start, end);
-                }
-            }
+            KeysetPage<KamcoItem> itemPage = kamcoItemService.getItemPage(
+                    KamcoItemPageQuery.builder().sido("서울특별시").build(), cursor, page, size);
+            List<KamcoItem> pagedItems = itemPage.items();
 
             List<KamcoItemResponse> itemResponses = pagedItems.stream()
                     .map(KamcoItemResponse::from)
@@ -634,8 +656,10 @@ public class AdminService {
             response.put("page", page);
             response.put("size", size);
             response.put("sido", "서울특별시");
-            response.put("totalCount", items.size());
+            response.put("totalCount", itemPage.totalCount());
             response.put("currentPageCount", itemResponses.size());
+            response.put("nextCursor", itemPage.nextCursor());
+            response.put("hasNext", itemPage.hasNext());
             response.put("items", itemResponses);
             response.put("message", "DB에서 서울특별시 목록을 성공적으로 조회했습니다.");
 
@@ -683,15 +707,13 @@ public class AdminService {
         }
     }
 
-    public ServiceResponse<Map<String, Object>> getAllItemsWithPagingResponse(int page, int size) {
+    public ServiceResponse<Map<String, Object>> getAllItemsWithPagingResponse(int page, int size, String cursor) {
         Map<String, Object> response = new HashMap<>();
 
         try {
-            List<KamcoItem> items = kamcoItemService.getAllItems();
-
-            int start = (page - 1) * size;
-            int end = Math.min(start + size, items.size());
-            List<KamcoItem> pagedItems = items.subList(start, end);
+            KeysetPage<KamcoItem> itemPage = kamcoItemService.getItemPage(
+                    KamcoItemPageQuery.builder().build(), cursor, page, size);
+            List<KamcoItem> pagedItems = itemPage.items();
 
             List<KamcoItemResponse> itemResponses = pagedItems.stream()
                     .map(KamcoItemResponse::from)
@@ -701,8 +723,10 @@ public class AdminService {
             response.put("source", "DATABASE");
             response.put("page", page);
             response.put("size", size);
-            response.put("totalCount", items.size());
+            response.put("totalCount", itemPage.totalCount());
             response.put("currentPageCount", pagedItems.size());
+            response.put("nextCursor", itemPage.nextCursor());
+            response.put("hasNext", itemPage.hasNext());
             response.put("items", itemResponses);
             response.put("message", "DB에서 목록을 성공적으로 조회했습니다.");
 
@@ -1025,5 +1049,105 @@ public class AdminService {
             return ServiceResponse.of(HttpStatus.INTERNAL_SERVER_ERROR, response);
         }
     }
-}
 
+    // =============================================================================
+    // 시스템 메트릭
+    // =============================================================================
+
+    /**
+     * 외부 API HTTP 커넥션 풀 상태 (leased/available/pending/max)
+     */
+    public ServiceResponse<Map<String, Object>> getHttpPoolMetricsResponse() {
+        Map<String, Object> response = new HashMap<>();
+        PoolStats stats = httpClientConnectionManager.getTotalStats();
+        response.put("success", true);
+        response.put("leased", stats.getLeased());
+        response.put("available", stats.getAvailable());
+        response.put("pending", stats.getPending());
+        response.put("max", stats.getMax());
+        response.put("routes", httpClientConnectionManager.getRoutes().size());
+        return ServiceResponse.ok(response);
+    }
+
+    /**
+     * 물건 목록 읽기 캐시 상태 (hit/miss/eviction/version)
+     */
+    public ServiceResponse<Map<String, Object>> getReadCacheMetricsResponse() {
+        Map<String, Object> response = new HashMap<>(readCache.getStats());
+        response.put("success", true);
+        response.put("lastInvalidatedAt", readCache.getLastInvalidatedAt());
+        return ServiceResponse.ok(response);
+    }
+
+    /**
+     * 물건 검색 색인 상태 (문서/토큰 수, 준비 여부)
+     */
+    public ServiceResponse<Map<String, Object>> getSearchIndexMetricsResponse() {
+        Map<String, Object> response = new HashMap<>(searchIndex.getStats());
+        response.put("success", true);
+        return ServiceResponse.ok(response);
+    }
+
+    /**
+     * 조회수 쓰기 지연 버퍼 상태 (대기 건수, 큐 깊이, 버린 이력 수)
+     */
+    public ServiceResponse<Map<String, Object>> getViewCounterMetricsResponse() {
+        Map<String, Object> response = new HashMap<>(viewCounter.getStats());
+        response.put("success", true);
+        return ServiceResponse.ok(response);
+    }
+
+    /**
+     * 메일 발송 대기열 상태 (상태별 건수, 발송/재시도/실패 누계)
+     */
+    public ServiceResponse<Map<String, Object>> getMailOutboxMetricsResponse() {
+        Map<String, Object> response = new HashMap<>(mailOutboxService.getStats());
+        response.put("success", true);
+        return ServiceResponse.ok(response);
+    }
+
+    /**
+     * 결제 준비 정보 임시 저장소 상태 (크기, 만료/밀어낸 건수)
+     */
+    public ServiceResponse<Map<String, Object>> getPendingPaymentMetricsResponse() {
+        Map<String, Object> response = new HashMap<>(pendingPaymentStore.getStats());
+        response.put("success", true);
+        return ServiceResponse.ok(response);
+    }
+
+    /**
+     * 경매 실시간 가격 스트림 상태 (구독자 수, 느린 구독자 정리 건수)
+     */
+    public ServiceResponse<Map<String, Object>> getAuctionStreamMetricsResponse() {
+        Map<String, Object> response = new HashMap<>(priceStreamService.getStats());
+        response.put("success", true);
+        return ServiceResponse.ok(response);
+    }
+
+    /**
+     * 가상 스레드 모드 상태 (pinning 건수/위치, JDBC 드라이버 확인 결과)
+     */
+    public ServiceResponse<Map<String, Object>> getVirtualThreadMetricsResponse() {
+        Map<String, Object> response = new HashMap<>(virtualThreadMonitor.getStats());
+        response.put("success", true);
+        return ServiceResponse.ok(response);
+    }
+
+    /**
+     * 데이터 보관 정책 상태 (정책별 마지막 처리 건수/청크 수, 삭제한 파티션 수)
+     */
+    public ServiceResponse<Map<String, Object>> getRetentionMetricsResponse() {
+        Map<String, Object> response = new HashMap<>(retentionService.getStats());
+        response.put("success", true);
+        return ServiceResponse.ok(response);
+    }
+
+    /**
+     * 조회 API 조건부 GET 상태 (검사 수, 304 응답 수/비율, 현재 ETag)
+     */
+    public ServiceResponse<Map<String, Object>> getHttpCacheMetricsResponse() {
+        Map<String, Object> response = new HashMap<>(conditionalGetInterceptor.getStats());
+        response.put("success", true);
+        return ServiceResponse.ok(response);
+    }
+}
@@ -9,6 +9,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpSession;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -16,12 +17,17 @@ import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import com.api.auction.domain.Auction;
 import com.api.auction.domain.FindBoard;
 import com.api.auction.domain.Reply;
 import com.api.auction.dto.AuctionResponse;
+import com.api.auction.dto.BidResult;
+import com.api.auction.dto.MainPageSnapshot;
+import com.api.auction.service.AuctionPriceStreamService;
 import com.api.auction.service.AuctionService;
+import com.api.auction.service.MainPageSnapshotService;
+import com.api.item.service.KamcoItemFacadeService;
 
 @Controller
 public class AuctionController {
@@ -34,45 +40,26 @@ public class AuctionController {
 	@Autowired
 	private AuctionService auctionService;
 
+	@Autowired
+	private MainPageSnapshotService mainPageSnapshotService;
+
+	@Autowired
+	private AuctionPriceStreamService priceStreamService;
+
+	@Autowired
+	private KamcoItemFacadeService kamcoItemFacadeService;
+
 	@RequestMapping(value = "/main")
 	public String mainPage(Model model) {
 		try {
-			Map<String, Object> mainPageData = auctionService.prepareMainPageData();
-
-			// 모델에 데이터 추가 (null 체크 및 기본값 설정)
-			model.addAttribute("discountList", mainPageData.getOrDefault("discountList", new java.util.ArrayList<>()));
-			
-			// categoryStats를 4x3 그리드 형태로 변환 (템플릿에서 안전하게 처리하기 위해)
-			@SuppressWarnings("unchecked")
-			java.util.Map<String, Integer> categoryStatsMap = (java.util.Map<String, Integer>) mainPageData.getOrDefault("categoryStats", new java.util.HashMap<>());
-			java.util.List<java.util.Map.Entry<String, Integer>> categoryStatsList = new java.util.ArrayList<>(categoryStatsMap.entrySet());
-			
-			// 4x3 그리드로 변환 (최대 12개)
-			java.util.List<java.util.Map.Entry<String, Integer>> categoryGrid = new java.util.ArrayList<>();
-			for (int i = 0; i < 12 && i < categoryStatsList.size(); i++) {
-				categoryGrid.add(categoryStatsList.get(i));
-			}
-			
-			model.addAttribute("categoryStats", categoryStatsMap);
-			model.addAttribute("categoryStatsList", categoryGrid);
-			
-			model.addAttribute("scheduleList", mainPageData.getOrDefault("scheduleList", new java.util.ArrayList<>()));
-			model.addAttribute("notices", mainPageData.getOrDefault("notices", new java.util.ArrayList<>()));
-			model.addAttribute("statsRate", mainPageData.getOrDefault("statsRate", "0.0"));
-			model.addAttribute("statsLabel", mainPageData.getOrDefault("statsLabel", "데이터 로딩 중..."));
-			model.addAttribute("totalItems", mainPageData.getOrDefault("totalItems", 0));
+			// 백그라운드에서 미리 계산된 스냅샷 사용 (요청당 DB 조회 없음)
+			MainPageSnapshot snapshot = mainPageSnapshotService.getSnapshot();
+			model.addAllAttributes(snapshot.toModelAttributes());
 
 			return "main";
 		} catch (Exception e) {
 			// 예외 발생 시에도 기본값으로 페이지 표시
-			model.addAttribute("discountList", new java.util.ArrayList<>());
-			model.addAttribute("categoryStats", new java.util.HashMap<>());
-			model.addAttribute("categoryStatsList", new java.util.ArrayList<>());
-			model.addAttribute("scheduleList", new java.util.ArrayList<>());
-			model.addAttribute("notices", new java.util.ArrayList<>());
-			model.addAttribute("statsRate", "0.0");
-			model.addAttribute("statsLabel", "데이터 로딩 중...");
-			model.addAttribute("totalItems", 0);
+			model.addAllAttributes(MainPageSnapshot.empty().toModelAttributes());
 			return "main";
 		}
 	}
@@ -142,11 +129,12 @@ public class AuctionController {
 	@RequestMapping(value = "/new-items")
 	public String newItems(Model model,
 			@RequestParam(name = "sido", defaultValue = "all", required = false) String sido,
-			@RequestParam(name = "pageNum", defaultValue = "1", required = false) int pageNum) {
+			@RequestParam(name = "pageNum", defaultValue = "1", required = false) int pageNum,
+			@RequestParam(name = "cursor", required = false) String cursor) {
 
 		try {
 			int pageSize = 20;
-			Map<String, Object> data = auctionService.prepareNewItemsPageData(sido, pageNum, pageSize);
+			Map<String, Object> data = auctionService.prepareNewItemsPageData(sido, pageNum, pageSize, cursor);
 			model.addAllAttributes(data);
 		} catch (Exception e) {
 			// 예외 발생 시에도 빈 목록으로 페이지 표시
@@ -190,16 +178,20 @@ public class AuctionController {
 	}
 
 	/**
-	 * 50% 체감 물건 목록 페이지 API에서 데이터를 가져와 DB에 저장한 후, 저장된 데이터만 표시
+	 * 50% 체감 물건 목록 페이지 (DB에 동기화된 데이터만 표시, 피드 갱신은 백그라운드)
 	 */
 	@RequestMapping(value = "/discount-50")
 	public String discount50Page(Model model,
 			@RequestParam(name = "sido", defaultValue = "서울특별시", required = false) String sido,
-			@RequestParam(name = "pageNum", defaultValue = "1", required = false) int pageNum) {
+			@RequestParam(name = "pageNum", defaultValue = "1", required = false) int pageNum,
+			@RequestParam(name = "cursor", required = false) String cursor) {
 
 		int pageSize = 20;
-		Map<String, Object> data = auctionService.prepareDiscount50PageData(sido, pageNum, pageSize);
+		// 오래된 피드면 백그라운드 갱신만 예약하고 페이지는 DB 데이터로 바로 표시
+		boolean refreshing = kamcoItemFacadeService.requestDiscount50Refresh(sido);
+		Map<String, Object> data = auctionService.prepareDiscount50PageData(sido, pageNum, pageSize, cursor);
 		model.addAllAttributes(data);
+		model.addAttribute("refreshing", refreshing);
 
 		return "auction/list";
 	}
@@ -209,16 +201,26 @@ public class AuctionController {
 	@ResponseBody
 	public Map<String, Object> bid(@RequestParam(name = "no") int no, @RequestParam(name = "buyer") String buyer,
 			@RequestParam(name = "endPrice") int endPrice) {
-		auctionService.bid(no, buyer, endPrice);
+		BidResult result = auctionService.bid(no, buyer, endPrice);
 
 		Map<String, Object> params = new HashMap<>();
+		params.put("success", result.accepted());
+		params.put("message", result.message());
 		// Domain을 DTO로 변환하여 응답
-		Auction auction = auctionService.getAuction(no);
-		params.put("auction", AuctionResponse.from(auction));
+		if (result.auction() != null) {
+			params.put("auction", AuctionResponse.from(result.auction()));
+		}
 
 		return params;
 	}
 
+	// 실시간 가격/마감 카운트다운 구독 (SSE)
+	@GetMapping(value = "/auctionStream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	@ResponseBody
+	public SseEmitter auctionStream(@RequestParam(name = "no") int no) {
+		return priceStreamService.subscribe(no);
+	}
+
 	@RequestMapping({ "boardList", "boardDetail" })
 	public String boardPage(HttpSession session, Model model,
 			@RequestParam(name = "id", required = false, defaultValue = "null") String id,
@@ -226,13 +228,14 @@ public class AuctionController {
 			@RequestParam(name = "category", required = false, defaultValue = "all") String category,
 			@RequestParam(name = "no", required = false) Integer no,
 			@RequestParam(name = "pageNum", required = false, defaultValue = "1") int pageNum,
-			@RequestParam(name = "pageSize", required = false, defaultValue = "20") int pageSize) {
+			@RequestParam(name = "pageSize", required = false, defaultValue = "20") int pageSize,
+			@RequestParam(name = "cursor", required = false) String cursor) {
 
 		if (session != null) {
 			model.addAttribute("session", session);
 		}
 
-		Map<String, Object> data = auctionService.prepareBoardPageData(id, keyword, category, no, pageNum, pageSize);
+		Map<String, Object> data = auctionService.prepareBoardPageData(id, keyword, category, no, pageNum, pageSize, cursor);
 		model.addAllAttributes(data);
 
 		return "board/board-faq-list";
@@ -361,13 +364,14 @@ public class AuctionController {
 			@RequestParam(name = "keyword", required = false, defaultValue = "null") String keyword,
 			@RequestParam(name = "category", required = false, defaultValue = "all") String category,
 			@RequestParam(name = "pageNum", required = false, defaultValue = "1") int pageNum,
-			@RequestParam(name = "pageSize", required = false, defaultValue = "20") int pageSize) {
+			@RequestParam(name = "pageSize", required = false, defaultValue = "20") int pageSize,
+			@RequestParam(name = "cursor", required = false) String cursor) {
 
 		if (session != null) {
 			model.addAttribute("session", session);
 		}
 
-		Map<String, Object> data = auctionService.prepareBoardPageData(id, keyword, category, null, pageNum, pageSize);
+		Map<String, Object> data = auctionService.prepareBoardPageData(id, keyword, category, null, pageNum, pageSize, cursor);
 		model.addAllAttributes(data);
 
 		return "board/board-faq-list";
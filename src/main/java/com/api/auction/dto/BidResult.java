@@ -0,0 +1,18 @@
+package com.api.auction.dto;
+
+import com.api.auction.domain.Auction;
+
+/**
+ * 응찰 처리 결과
+ * - accepted=false 이면 현재 최고가 이하 입찰이거나 경매가 없는 경우 (auction 은 최신 상태)
+ */
+public record BidResult(boolean accepted, String message, Auction auction) {
+
+    public static BidResult accepted(Auction auction) {
+        return new BidResult(true, "응찰이 완료되었습니다.", auction);
+    }
+
+    public static BidResult rejected(String message, Auction auction) {
+        return new BidResult(false, message, auction);
+    }
+}
@@ -0,0 +1,108 @@
+package com.api.auction.dto;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.api.auction.domain.Auction;
+import com.api.item.domain.KamcoItem;
+import com.api.item.domain.NewItemNotification;
+
+/**
+ * 메인 페이지 스냅샷 (불변)
+ * - 동기화/타이머 시 백그라운드에서 한 번 계산하고 /main, /api/main-data 요청은 DB 조회 없이 그대로 사용
+ * - dataVersion: 스냅샷 계산 시점의 읽기 캐시 버전 (KamcoItemReadCache)
+ */
+public record MainPageSnapshot(
+        List<Auction> discountList,
+        Map<String, Integer> categoryStats,
+        List<Map.Entry<String, Integer>> categoryStatsList,
+        List<Map<String, String>> scheduleList,
+        List<Map<String, Object>> notices,
+        String statsRate,
+        String statsLabel,
+        int totalItems,
+        List<NewItemNotification> newNotifications,
+        List<KamcoItem> todayItems,
+        long dataVersion,
+        LocalDateTime builtAt) {
+
+    /** 메인 화면 용도별 그리드 최대 칸 수 (4x3) */
+    private static final int CATEGORY_GRID_SIZE = 12;
+
+    public MainPageSnapshot {
+        discountList = List.copyOf(discountList);
+        categoryStats = Collections.unmodifiableMap(new LinkedHashMap<>(categoryStats));
+        categoryStatsList = List.copyOf(categoryStatsList);
+        scheduleList = scheduleList.stream()
+                .map(schedule -> Collections.unmodifiableMap(new HashMap<>(schedule)))
+                .toList();
+        notices = notices.stream()
+                .map(notice -> Collections.unmodifiableMap(new HashMap<>(notice)))
+                .toList();
+        newNotifications = List.copyOf(newNotifications);
+        todayItems = List.copyOf(todayItems);
+    }
+
+    /**
+     * AuctionService.prepareMainPageData() 결과로 스냅샷 생성
+     * - 용도별 통계는 건수 내림차순으로 정렬하고 상위 12개를 그리드용으로 미리 잘라 둠
+     */
+    @SuppressWarnings("unchecked")
+    public static MainPageSnapshot of(Map<String, Object> data,
+                                      List<NewItemNotification> newNotifications,
+                                      long dataVersion) {
+        Map<String, Integer> rawStats = (Map<String, Integer>) data.getOrDefault("categoryStats", Map.of());
+        Map<String, Integer> sortedStats = new LinkedHashMap<>();
+        rawStats.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .forEachOrdered(entry -> sortedStats.put(entry.getKey(), entry.getValue()));
+
+        List<Map.Entry<String, Integer>> grid = sortedStats.entrySet().stream()
+                .limit(CATEGORY_GRID_SIZE)
+                .map(entry -> Map.entry(entry.getKey(), entry.getValue()))
+                .toList();
+
+        return new MainPageSnapshot(
+                (List<Auction>) data.getOrDefault("discountList", new ArrayList<>()),
+                sortedStats,
+                grid,
+                (List<Map<String, String>>) data.getOrDefault("scheduleList", new ArrayList<>()),
+                (List<Map<String, Object>>) data.getOrDefault("notices", new ArrayList<>()),
+                String.valueOf(data.getOrDefault("statsRate", "0.0")),
+                String.valueOf(data.getOrDefault("statsLabel", "데이터 로딩 중...")),
+                (Integer) data.getOrDefault("totalItems", 0),
+                newNotifications,
+                (List<KamcoItem>) data.getOrDefault("todayItems", new ArrayList<>()),
+                dataVersion,
+                LocalDateTime.now());
+    }
+
+    /**
+     * 데이터가 없는 초기 스냅샷 (첫 계산 실패 시)
+     */
+    public static MainPageSnapshot empty() {
+        return new MainPageSnapshot(List.of(), Map.of(), List.of(), List.of(), List.of(),
+                "0.0", "데이터 로딩 중...", 0, List.of(), List.of(), 0L, LocalDateTime.now());
+    }
+
+    /**
+     * Thymeleaf 모델 속성 (main.html)
+     */
+    public Map<String, Object> toModelAttributes() {
+        Map<String, Object> attributes = new HashMap<>();
+        attributes.put("discountList", discountList);
+        attributes.put("categoryStats", categoryStats);
+        attributes.put("categoryStatsList", categoryStatsList);
+        attributes.put("scheduleList", scheduleList);
+        attributes.put("notices", notices);
+        attributes.put("statsRate", statsRate);
+        attributes.put("statsLabel", statsLabel);
+        attributes.put("totalItems", totalItems);
+        return attributes;
+    }
+}
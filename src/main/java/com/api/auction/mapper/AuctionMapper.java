@@ -23,9 +23,13 @@ public interface AuctionMapper {
 	
 	Auction getAuction(int no);
 	
-	void updateEndPrice(@Param("no") int no, 
-					    @Param("buyer") String buyer, 
-					    @Param("endPrice") int endPrice);
+	int placeBid(@Param("no") int no, 
+				 @Param("buyer") String buyer, 
+				 @Param("endPrice") int endPrice);
+	
+	void insertBid(@Param("no") int no, 
+				   @Param("buyer") String buyer, 
+				   @Param("endPrice") int endPrice);
 	
 	void updateAuction(Auction auction);
 	
@@ -37,6 +41,17 @@ public interface AuctionMapper {
 	                             @Param("keyword") String keyword,
 	                             @Param("category") String category);
 
+	List<FindBoard> getBoardPage(@Param("id") String id,
+	                             @Param("keyword") String keyword,
+	                             @Param("category") String category,
+	                             @Param("cursorNo") Integer cursorNo,
+	                             @Param("offset") int offset,
+	                             @Param("limit") int limit);
+
+	int getBoardCount(@Param("id") String id,
+	                  @Param("keyword") String keyword,
+	                  @Param("category") String category);
+
 	FindBoard getBoard(int no);
 
 	void updateBoard(FindBoard board);
@@ -0,0 +1,257 @@
+package com.api.auction.service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.api.auction.domain.Auction;
+import com.api.auction.mapper.AuctionMapper;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 경매 실시간 가격 스트림 (SSE)
+ * - 경매 번호별 구독자 목록에 이벤트를 뿌리는 인프로세스 pub/sub (응찰 커밋 후 price, 주기적으로 countdown)
+ * - 구독자마다 고정 크기 버퍼를 두고, 버퍼가 가득 찬 느린 구독자는 연결을 끊음 (다른 구독자에 영향 없음)
+ * - 대기 중인 연결은 서블릿 비동기 요청이라 스레드를 점유하지 않고, 전송은 가상 스레드에서 수행
+ */
+@Slf4j
+@Service
+public class AuctionPriceStreamService {
+
+	private final AuctionMapper auctionMapper;
+	private final long emitterTimeoutMs;
+	private final int bufferSize;
+	private final int maxSubscribers;
+
+	private final Map<Integer, Topic> topics = new ConcurrentHashMap<>();
+	private final AtomicInteger subscriberCount = new AtomicInteger();
+	private final ExecutorService sender = Executors.newVirtualThreadPerTaskExecutor();
+
+	private final LongAdder published = new LongAdder();
+	private final LongAdder delivered = new LongAdder();
+	private final LongAdder evictedSlow = new LongAdder();
+	private final LongAdder rejectedSubscribers = new LongAdder();
+
+	/** 경매별 구독자 묶음 (마감 시각은 카운트다운용으로 구독 시 한 번만 조회) */
+	private static final class Topic {
+		private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+		private volatile LocalDateTime deadline;
+	}
+
+	/** 발행 이벤트 (SseEventBuilder 는 전송 시 내용이 바뀌므로 구독자마다 새로 만듦) */
+	private record StreamEvent(String name, Object data) {
+	}
+
+	/** 구독자 1명 - 버퍼에 쌓인 이벤트를 한 번에 하나의 전송 작업만 비움 */
+	private final class Subscriber {
+		private final int auctionNo;
+		private final SseEmitter emitter;
+		private final BlockingQueue<StreamEvent> buffer;
+		private final AtomicBoolean draining = new AtomicBoolean();
+		private final AtomicBoolean closed = new AtomicBoolean();
+
+		private Subscriber(int auctionNo, SseEmitter emitter) {
+			this.auctionNo = auctionNo;
+			this.emitter = emitter;
+			this.buffer = new ArrayBlockingQueue<>(bufferSize);
+		}
+
+		private void offer(StreamEvent event) {
+			if (closed.get()) {
+				return;
+			}
+			if (!buffer.offer(event)) {
+				evictedSlow.increment();
+				log.debug("🐢 느린 구독자 연결 종료: auctionNo={}", auctionNo);
+				close();
+				emitter.complete();
+				return;
+			}
+			if (draining.compareAndSet(false, true)) {
+				sender.execute(this::drain);
+			}
+		}
+
+		private void drain() {
+			try {
+				StreamEvent event;
+				while (!closed.get() && (event = buffer.poll()) != null) {
+					emitter.send(SseEmitter.event().name(event.name()).data(event.data()));
+					delivered.increment();
+				}
+			} catch (IOException | IllegalStateException e) {
+				close();
+			} finally {
+				draining.set(false);
+				// 비우는 사이 새로 들어온 이벤트가 있으면 다시 예약
+				if (!closed.get() && !buffer.isEmpty() && draining.compareAndSet(false, true)) {
+					sender.execute(this::drain);
+				}
+			}
+		}
+
+		private void close() {
+			if (closed.compareAndSet(false, true)) {
+				buffer.clear();
+				unsubscribe(this);
+			}
+		}
+	}
+
+	public AuctionPriceStreamService(AuctionMapper auctionMapper,
+			@Value("${auction.stream.timeout-ms:1800000}") long emitterTimeoutMs,
+			@Value("${auction.stream.buffer-size:16}") int bufferSize,
+			@Value("${auction.stream.max-subscribers:10000}") int maxSubscribers) {
+		this.auctionMapper = auctionMapper;
+		this.emitterTimeoutMs = emitterTimeoutMs;
+		this.bufferSize = Math.max(1, bufferSize);
+		this.maxSubscribers = Math.max(1, maxSubscribers);
+	}
+
+	/**
+	 * 경매 구독 (현재 가격/카운트다운을 바로 한 번 보냄)
+	 */
+	public SseEmitter subscribe(int auctionNo) {
+		SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+		if (subscriberCount.incrementAndGet() > maxSubscribers) {
+			subscriberCount.decrementAndGet();
+			rejectedSubscribers.increment();
+			emitter.completeWithError(new IllegalStateException("too many subscribers"));
+			return emitter;
+		}
+
+		Auction auction = auctionMapper.getAuction(auctionNo);
+		Subscriber subscriber = new Subscriber(auctionNo, emitter);
+		Topic topic = topics.compute(auctionNo, (no, existing) -> {
+			Topic target = existing != null ? existing : new Topic();
+			target.subscribers.add(subscriber);
+			return target;
+		});
+		if (auction != null && auction.getEndDate() != null) {
+			// 목록 조회와 같은 기준 (종료일 0시에 마감)
+			topic.deadline = auction.getEndDate().toLocalDate().atStartOfDay();
+		}
+		emitter.onCompletion(subscriber::close);
+		emitter.onTimeout(subscriber::close);
+		emitter.onError(error -> subscriber.close());
+
+		if (auction != null) {
+			subscriber.offer(priceEvent(auction));
+		}
+		subscriber.offer(countdownEvent(auctionNo, topic.deadline));
+		return emitter;
+	}
+
+	/**
+	 * 응찰 반영 후 가격 이벤트 발행 (트랜잭션 커밋 후, 트랜잭션이 없으면 즉시)
+	 */
+	public void publishPriceAfterCommit(Auction auction) {
+		if (auction == null) {
+			return;
+		}
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					publish(auction.getNo(), priceEvent(auction));
+				}
+			});
+		} else {
+			publish(auction.getNo(), priceEvent(auction));
+		}
+	}
+
+	/**
+	 * 마감까지 남은 시간 발행 (구독자가 있는 경매만, 연결 유지 heartbeat 겸용)
+	 */
+	@Scheduled(fixedDelayString = "${auction.stream.countdown-interval-ms:15000}")
+	public void publishCountdowns() {
+		for (Integer auctionNo : topics.keySet()) {
+			// 구독자가 없는 경매는 정리 (구독 추가와 같은 compute 로 원자적으로)
+			Topic topic = topics.computeIfPresent(auctionNo, (no, existing) -> existing.subscribers.isEmpty() ? null : existing);
+			if (topic != null) {
+				publish(auctionNo, countdownEvent(auctionNo, topic.deadline));
+			}
+		}
+	}
+
+	private void publish(int auctionNo, StreamEvent event) {
+		Topic topic = topics.get(auctionNo);
+		if (topic == null) {
+			return;
+		}
+		published.increment();
+		for (Subscriber subscriber : topic.subscribers) {
+			subscriber.offer(event);
+		}
+	}
+
+	private void unsubscribe(Subscriber subscriber) {
+		Topic topic = topics.get(subscriber.auctionNo);
+		if (topic != null && topic.subscribers.remove(subscriber)) {
+			subscriberCount.decrementAndGet();
+		}
+	}
+
+	private StreamEvent priceEvent(Auction auction) {
+		Map<String, Object> data = new HashMap<>();
+		data.put("no", auction.getNo());
+		data.put("endPrice", auction.getEndPrice());
+		data.put("buyer", auction.getBuyer());
+		data.put("count", auction.getCount());
+		return new StreamEvent("price", data);
+	}
+
+	private StreamEvent countdownEvent(int auctionNo, LocalDateTime deadline) {
+		Map<String, Object> data = new HashMap<>();
+		data.put("no", auctionNo);
+		if (deadline != null) {
+			long remaining = Math.max(0, Duration.between(LocalDateTime.now(), deadline).getSeconds());
+			data.put("remainingSeconds", remaining);
+			data.put("closed", remaining == 0);
+		}
+		return new StreamEvent("countdown", data);
+	}
+
+	/**
+	 * 스트림 메트릭
+	 */
+	public Map<String, Object> getStats() {
+		Map<String, Object> stats = new HashMap<>();
+		stats.put("auctions", topics.size());
+		stats.put("subscribers", subscriberCount.get());
+		stats.put("maxSubscribers", maxSubscribers);
+		stats.put("bufferSize", bufferSize);
+		stats.put("published", published.sum());
+		stats.put("delivered", delivered.sum());
+		stats.put("evictedSlow", evictedSlow.sum());
+		stats.put("rejectedSubscribers", rejectedSubscribers.sum());
+		return stats;
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		topics.values().forEach(topic -> topic.subscribers.forEach(subscriber -> subscriber.emitter.complete()));
+		sender.shutdownNow();
+	}
+}
@@ -21,9 +21,12 @@ import com.api.auction.mapper.AuctionMapper;
 import com.api.auction.domain.Auction;
 import com.api.auction.domain.FindBoard;
 import com.api.auction.domain.Reply;
+import com.api.auction.dto.BidResult;
+import com.api.common.dto.KeysetCursor;
+import com.api.common.dto.KeysetPage;
 import com.api.item.domain.KamcoItem;
+import com.api.item.dto.KamcoItemPageQuery;
 import com.api.item.service.KamcoItemService;
-import com.api.item.service.OnbidApiService;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -36,7 +39,7 @@ public class AuctionService {
 
 	private final AuctionMapper auctionMapper;
 	private final KamcoItemService kamcoItemService;
-	private final OnbidApiService onbidApiService;
+	private final AuctionPriceStreamService priceStreamService;
 	
 	private static final int PAGE_GROUP = 10;
 	
@@ -84,12 +87,26 @@ public class AuctionService {
 		return auctionMapper.getAuction(no);
 	}
 
+	/**
+	 * 응찰
+	 * - 현재 최고가보다 높을 때만 반영하는 조건부 UPDATE 로 동시 응찰을 직렬화 (행 잠금 안에서 비교)
+	 * - 받아들여진 응찰만 입찰 이력 테이블에 추가하고, 커밋 후 실시간 구독자에게 가격 발행
+	 */
 	@Transactional
-	public Auction bid(int no, String buyer, int endPrice) {
-		// DB 업데이트
-		auctionMapper.updateEndPrice(no, buyer, endPrice);
-		// 경매정보 가져오기
-		return auctionMapper.getAuction(no);
+	public BidResult bid(int no, String buyer, int endPrice) {
+		int updated = auctionMapper.placeBid(no, buyer, endPrice);
+		if (updated == 0) {
+			Auction current = auctionMapper.getAuction(no);
+			if (current == null) {
+				return BidResult.rejected("존재하지 않는 경매입니다.", null);
+			}
+			log.info("⚠️ 응찰 거절 - no={}, buyer={}, 입찰가={}, 현재가={}", no, buyer, endPrice, current.getEndPrice());
+			return BidResult.rejected("현재 최고가보다 높은 금액으로 응찰해주세요.", current);
+		}
+		auctionMapper.insertBid(no, buyer, endPrice);
+		Auction auction = auctionMapper.getAuction(no);
+		priceStreamService.publishPriceAfterCommit(auction);
+		return BidResult.accepted(auction);
 	}
 
 	@Transactional
@@ -238,7 +255,7 @@ public class AuctionService {
 	}
 	
 	/**
-	 * 메인 페이지 데이터 준비
+	 * 메인 페이지 데이터 준비 (MainPageSnapshotService 재계산 시에만 호출)
 	 * 각 쿼리를 독립적으로 실행하여 하나의 실패가 전체를 막지 않도록 함
 	 */
 	@Transactional(propagation = org.springframework.transaction.annotation.Propagation.NOT_SUPPORTED)
@@ -262,16 +279,10 @@ public class AuctionService {
 			List<Auction> discountList = convertKamcoItemsToAuctions(discount50Items);
 			data.put("discountList", discountList);
 			
-			// 2. 용도별 물건 조회 (카테고리 통계 - DB에서 조회)
+			// 2. 용도별 물건 조회 (카테고리 통계 - DB GROUP BY 집계)
 			Map<String, Integer> categoryStats = new HashMap<>();
 			try {
-				List<KamcoItem> allItems = kamcoItemService.getBySido("서울특별시");
-				for (KamcoItem item : allItems) {
-					String usage = item.getCtgrFullNm();
-					if (usage != null && !usage.isEmpty()) {
-						categoryStats.put(usage, categoryStats.getOrDefault(usage, 0) + 1);
-					}
-				}
+				categoryStats = kamcoItemService.getCategoryStats("서울특별시");
 			} catch (Exception e) {
 				log.warn("⚠️ 용도별 물건 조회 실패: {}", e.getMessage());
 			}
@@ -281,6 +292,7 @@ public class AuctionService {
 			List<Map<String, String>> scheduleList = new ArrayList<>();
 			try {
 				List<KamcoItem> deadlineItems = kamcoItemService.getTodayClosingItems();
+				data.put("todayItems", deadlineItems);
 				
 				String today = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
 				Map<String, Map<String, String>> districtMap = new HashMap<>();
@@ -388,23 +400,24 @@ public class AuctionService {
 	/**
 	 * 신규 물건 목록 페이지 데이터 준비
 	 */
-	public Map<String, Object> prepareNewItemsPageData(String sido, int pageNum, int pageSize) {
+	public Map<String, Object> prepareNewItemsPageData(String sido, int pageNum, int pageSize, String cursor) {
 		Map<String, Object> data = new HashMap<>();
 		
 		try {
-			// 신규 물건만 조회 (is_new = 1 조건, 시도별 필터링 포함)
+			// 신규 물건만 조회 (is_new = 1 조건, 시도별 필터링 포함) - 키셋 페이지 단위로 DB에서 조회
 			// 신규 물건이 없으면 빈 리스트 반환 (일반 데이터는 표시하지 않음)
-			List<com.api.item.domain.KamcoItem> newItems = kamcoItemService.getNewItemsBySido(sido);
+			KeysetPage<KamcoItem> itemPage = kamcoItemService.getItemPage(
+				KamcoItemPageQuery.builder().sido(sido).onlyNew(true).build(), cursor, pageNum, pageSize);
 			
 			// KamcoItem을 Auction으로 변환
-			List<Auction> auctions = convertKamcoItemsToAuctions(newItems);
+			List<Auction> pagedAuctions = convertKamcoItemsToAuctions(itemPage.items());
 			
-			// 페이지네이션
-			int totalCount = auctions.size();
+			// 페이지네이션 (전체 건수는 COUNT 쿼리)
+			int totalCount = (int) itemPage.totalCount();
 			Map<String, Object> pagination = calculatePagination(totalCount, pageNum, pageSize, 10);
-			List<Auction> pagedAuctions = paginateList(auctions, pageNum, pageSize);
 			
 			data.put("atList", pagedAuctions);
+			data.put("nextCursor", itemPage.nextCursor());
 			data.put("category", "신규물건");
 			data.put("period", "new");
 			data.put("printType", "new");
@@ -489,53 +502,25 @@ public class AuctionService {
 	
 	/**
 	 * 50% 체감 물건 페이지 데이터 준비
+	 * - DB(읽기 캐시)만 조회 (요청 중 온비드 호출/DB 쓰기 없음, 피드 갱신 예약은 컨트롤러에서 KamcoItemFacadeService 로)
 	 */
-	public Map<String, Object> prepareDiscount50PageData(String sido, int pageNum, int pageSize) {
+	public Map<String, Object> prepareDiscount50PageData(String sido, int pageNum, int pageSize, String cursor) {
 		Map<String, Object> data = new HashMap<>();
 		
 		try {
-			// API에서 50% 체감 물건 가져오기
-			List<com.api.item.domain.Item> apiItems = new ArrayList<>();
-			
-			for (int page = 1; page <= 5; page++) {
-				try {
-					List<com.api.item.domain.Item> pageItems = onbidApiService.getUnifyDegression50PerCltrList(sido, page, 100);
-					if (pageItems != null && !pageItems.isEmpty()) {
-						apiItems.addAll(pageItems);
-					} else {
-						break;
-					}
-					Thread.sleep(300);
-				} catch (Exception e) {
-					break;
-				}
-			}
-			
-			// DB에 저장
-			int savedCount = 0;
-			if (!apiItems.isEmpty()) {
-				savedCount = kamcoItemService.saveBatchFromApiItems(apiItems);
-			}
-			
-			// DB에서 저장된 50% 체감 물건 (시도별 전체) 조회
-			List<com.api.item.domain.KamcoItem> discountItems = kamcoItemService.get50PercentDiscountItemsBySido(sido);
-			
-			// 시도 필터링
-			if (sido != null && !sido.isEmpty() && !sido.equals("all")) {
-				discountItems = discountItems.stream()
-					.filter(item -> sido.equals(item.getSido()))
-					.collect(Collectors.toList());
-			}
+			// 50% 체감 물건 (시도 필터) 키셋 페이지 조회
+			KeysetPage<KamcoItem> itemPage = kamcoItemService.getItemPage(
+				KamcoItemPageQuery.builder().sido(sido).discount50(true).build(), cursor, pageNum, pageSize);
 			
 			// Auction 객체로 변환
-			List<Auction> auctions = convertKamcoItemsToAuctions(discountItems);
+			List<Auction> pagedAuctions = convertKamcoItemsToAuctions(itemPage.items());
 			
-			// 페이지네이션
-			int totalCount = auctions.size();
+			// 페이지네이션 (전체 건수는 COUNT 쿼리)
+			int totalCount = (int) itemPage.totalCount();
 			Map<String, Object> pagination = calculatePagination(totalCount, pageNum, pageSize, 10);
-			List<Auction> pagedAuctions = paginateList(auctions, pageNum, pageSize);
 			
 			data.put("atList", pagedAuctions);
+			data.put("nextCursor", itemPage.nextCursor());
 			data.put("category", "50% 체감 물건");
 			data.put("period", "progress");
 			data.put("printType", "new");
@@ -543,8 +528,6 @@ public class AuctionService {
 			data.put("pageNum", pageNum);
 			data.putAll(pagination);
 			data.put("totalCount", totalCount);
-			data.put("apiFetchedCount", apiItems.size());
-			data.put("dbSavedCount", savedCount);
 			
 		} catch (Exception e) {
 			log.error("❌ 50% 체감 물건 페이지 오류: {}", e.getMessage(), e);
@@ -553,8 +536,6 @@ public class AuctionService {
 			data.put("period", "progress");
 			data.put("printType", "new");
 			data.put("totalCount", 0);
-			data.put("apiFetchedCount", 0);
-			data.put("dbSavedCount", 0);
 		}
 		
 		return data;
@@ -564,7 +545,7 @@ public class AuctionService {
 	 * 게시판 목록/상세 페이지 데이터 준비
 	 */
 	public Map<String, Object> prepareBoardPageData(String id, String keyword, String category,
-			Integer no, int pageNum, int pageSize) {
+			Integer no, int pageNum, int pageSize, String cursor) {
 		Map<String, Object> data = new HashMap<>();
 		
 		// null 값 처리
@@ -572,8 +553,17 @@ public class AuctionService {
 		if ("null".equals(keyword)) keyword = null;
 		if ("all".equals(category)) category = null;
 		
-		List<FindBoard> allBoards = getBoardList(id, keyword, category);
-		int totalCount = allBoards.size();
+		// 전체 건수는 COUNT, 목록은 no 기준 키셋(커서 없으면 OFFSET)으로 한 페이지만 조회
+		int totalCount = auctionMapper.getBoardCount(id, keyword, category);
+		Integer cursorNo = decodeBoardCursor(cursor);
+		int offset = cursorNo != null ? 0 : Math.max(0, pageNum - 1) * pageSize;
+		
+		List<FindBoard> pagedBoards = auctionMapper.getBoardPage(id, keyword, category, cursorNo, offset, pageSize + 1);
+		String nextCursor = null;
+		if (pagedBoards.size() > pageSize) {
+			pagedBoards = pagedBoards.subList(0, pageSize);
+			nextCursor = new KeysetCursor(null, pagedBoards.get(pageSize - 1).getNo()).encode();
+		}
 		
 		// 페이지네이션 계산
 		int pageCount = totalCount > 0 ? (int) Math.ceil((double) totalCount / pageSize) : 1;
@@ -581,12 +571,8 @@ public class AuctionService {
 		int startPage = ((pageNum - 1) / pageGroup) * pageGroup + 1;
 		int endPage = Math.min(startPage + pageGroup - 1, pageCount);
 		
-		// 페이지별 데이터 추출
-		int startIndex = (pageNum - 1) * pageSize;
-		int endIndex = Math.min(startIndex + pageSize, totalCount);
-		List<FindBoard> pagedBoards = totalCount > 0 ? allBoards.subList(startIndex, endIndex) : new ArrayList<>();
-		
 		data.put("boardList", pagedBoards);
+		data.put("nextCursor", nextCursor);
 		data.put("id", id);
 		data.put("keyword", keyword);
 		data.put("category", category != null ? category : "all");
@@ -606,6 +592,22 @@ public class AuctionService {
 		return data;
 	}
 	
+	/**
+	 * 게시판 커서 해석 (형식이 잘못됐거나 게시글 번호 범위를 벗어나면 null = 페이지 번호로 조회)
+	 */
+	private static Integer decodeBoardCursor(String cursor) {
+		try {
+			KeysetCursor position = KeysetCursor.decode(cursor);
+			if (position == null || position.id() <= 0 || position.id() > Integer.MAX_VALUE) {
+				return null;
+			}
+			return (int) position.id();
+		} catch (IllegalArgumentException e) {
+			log.debug("잘못된 게시판 커서 무시: {}", cursor);
+			return null;
+		}
+	}
+	
 	/**
 	 * 페이지네이션 정보 계산 (PaginationUtilService 통합)
 	 */
@@ -0,0 +1,160 @@
+package com.api.auction.service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.api.auction.dto.MainPageSnapshot;
+import com.api.common.dto.ServiceResponse;
+import com.api.item.domain.NewItemNotification;
+import com.api.item.service.KamcoItemReadCache;
+import com.api.item.service.NewItemNotificationService;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 메인 페이지 스냅샷 관리
+ * - 요청 경로에서는 AtomicReference 로 현재 스냅샷만 읽음 (DB 조회 없음)
+ * - 주기적으로 데이터 버전(동기화 커밋)·경과 시간·날짜 변경을 확인해 백그라운드 재계산
+ * - 재계산은 한 번에 하나만 수행하고, 실패 시 이전 스냅샷 유지
+ */
+@Slf4j
+@Service
+public class MainPageSnapshotService {
+
+	private final AuctionService auctionService;
+	private final NewItemNotificationService notificationService;
+	private final KamcoItemReadCache readCache;
+	private final Duration maxAge;
+
+	private final AtomicReference<MainPageSnapshot> current = new AtomicReference<>();
+	private final ReentrantLock refreshLock = new ReentrantLock();
+
+	public MainPageSnapshotService(AuctionService auctionService,
+			NewItemNotificationService notificationService,
+			KamcoItemReadCache readCache,
+			@Value("${main.snapshot.max-age-seconds:300}") long maxAgeSeconds) {
+		this.auctionService = auctionService;
+		this.notificationService = notificationService;
+		this.readCache = readCache;
+		this.maxAge = Duration.ofSeconds(maxAgeSeconds);
+	}
+
+	/**
+	 * 현재 스냅샷 (기동 직후 아직 없으면 한 번만 동기 계산)
+	 */
+	public MainPageSnapshot getSnapshot() {
+		MainPageSnapshot snapshot = current.get();
+		if (snapshot != null) {
+			return snapshot;
+		}
+		refreshLock.lock();
+		try {
+			snapshot = current.get();
+			if (snapshot == null) {
+				snapshot = build("initial");
+			}
+			return snapshot;
+		} finally {
+			refreshLock.unlock();
+		}
+	}
+
+	/**
+	 * 스냅샷 갱신 필요 여부 확인 (기동 직후 1회 + 주기 실행)
+	 */
+	@Scheduled(fixedDelayString = "${main.snapshot.check-interval-ms:15000}")
+	public void refreshIfStale() {
+		MainPageSnapshot snapshot = current.get();
+		String reason = staleReason(snapshot);
+		if (reason != null) {
+			refresh(reason);
+		}
+	}
+
+	/**
+	 * 즉시 재계산 (이미 진행 중이면 건너뜀)
+	 */
+	public void refresh(String reason) {
+		if (!refreshLock.tryLock()) {
+			log.debug("⏭️ 메인 스냅샷 재계산 진행 중 - 건너뜀 (사유: {})", reason);
+			return;
+		}
+		try {
+			build(reason);
+		} finally {
+			refreshLock.unlock();
+		}
+	}
+
+	private MainPageSnapshot build(String reason) {
+		long start = System.currentTimeMillis();
+		long version = readCache.getVersion();
+		try {
+			Map<String, Object> data = auctionService.prepareMainPageData();
+			List<NewItemNotification> newNotifications = notificationService.getNewItemNotifications(10);
+
+			MainPageSnapshot snapshot = MainPageSnapshot.of(data, newNotifications, version);
+			current.set(snapshot);
+			log.info("📸 메인 스냅샷 재계산 완료: version={}, 사유={}, 소요={}ms",
+					version, reason, System.currentTimeMillis() - start);
+			return snapshot;
+		} catch (Exception e) {
+			log.error("❌ 메인 스냅샷 재계산 실패 (이전 스냅샷 유지): {}", e.getMessage(), e);
+			MainPageSnapshot previous = current.get();
+			if (previous != null) {
+				return previous;
+			}
+			MainPageSnapshot empty = MainPageSnapshot.empty();
+			current.set(empty);
+			return empty;
+		}
+	}
+
+	/**
+	 * /kamco-items/main-data 응답 (스냅샷 재사용, 요청당 DB 조회 없음)
+	 * - item 서비스가 auction 패키지를 참조하지 않도록 컨트롤러가 직접 호출
+	 */
+	public ServiceResponse<Map<String, Object>> buildMainDataResponse() {
+		Map<String, Object> result = new HashMap<>();
+		try {
+			MainPageSnapshot snapshot = getSnapshot();
+			result.put("success", true);
+			result.put("newNotifications", snapshot.newNotifications());
+			result.put("todayItems", snapshot.todayItems());
+			return ServiceResponse.ok(result);
+		} catch (Exception e) {
+			log.error("메인 데이터 조회 실패", e);
+			result.put("success", false);
+			result.put("message", "데이터 조회에 실패했습니다.");
+			return ServiceResponse.of(HttpStatus.INTERNAL_SERVER_ERROR, result);
+		}
+	}
+
+	private String staleReason(MainPageSnapshot snapshot) {
+		if (snapshot == null) {
+			return "initial";
+		}
+		if (snapshot.dataVersion() != readCache.getVersion()) {
+			return "data-version";
+		}
+		LocalDateTime now = LocalDateTime.now();
+		if (!snapshot.builtAt().toLocalDate().equals(LocalDate.now())) {
+			return "date-changed";
+		}
+		if (Duration.between(snapshot.builtAt(), now).compareTo(maxAge) > 0) {
+			return "max-age";
+		}
+		return null;
+	}
+}
@@ -0,0 +1,39 @@
+package com.api.common.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 키셋(커서) 페이지네이션 위치
+ * - 마지막으로 내려준 행의 (정렬 키, id) 를 불투명 토큰(Base64 URL)으로 주고받음
+ * - 정렬 키 없이 id 만으로 정렬하는 테이블은 sortKey 를 null 로 사용
+ */
+public record KeysetCursor(LocalDateTime sortKey, long id) {
+
+    private static final String SEPARATOR = "|";
+
+    public String encode() {
+        String raw = (sortKey != null ? sortKey.toString() : "") + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 토큰 해석 (null/빈 값이면 null = 첫 페이지)
+     * @throws IllegalArgumentException 형식이 잘못된 토큰
+     */
+    public static KeysetCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            String sortKey = raw.substring(0, separator);
+            long id = Long.parseLong(raw.substring(separator + 1));
+            return new KeysetCursor(sortKey.isEmpty() ? null : LocalDateTime.parse(sortKey), id);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 페이지 커서입니다: " + token, e);
+        }
+    }
+}
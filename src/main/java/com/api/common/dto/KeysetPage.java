@@ -0,0 +1,11 @@
+package com.api.common.dto;
+
+import java.util.List;
+
+/**
+ * 키셋 페이지 결과
+ * - nextCursor: 다음 페이지 요청 시 그대로 넘기는 토큰 (마지막 페이지면 null)
+ * - totalCount: 별도 COUNT 쿼리 결과 (목록 전체를 읽지 않음)
+ */
+public record KeysetPage<T>(List<T> items, String nextCursor, boolean hasNext, long totalCount) {
+}
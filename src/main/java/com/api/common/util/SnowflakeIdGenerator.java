@@ -0,0 +1,106 @@
+package com.api.common.util;
+
+import java.net.InetAddress;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 시간 정렬 가능한 64비트 ID 생성기 (Snowflake 방식)
+ * - [부호 1][기준시각 이후 ms 41][노드 10][순번 12] → 노드당 ms 당 4096개
+ * - 상태(ms + 순번)를 AtomicLong 하나에 담아 CAS 로 갱신 (락 없음)
+ * - 노드 안에서 단조 증가: 시계가 뒤로 가거나 순번이 넘치면 마지막 ms 를 이어서 사용
+ * - 문자열 ID 는 고정 길이 Crockford Base32 라 문자열 정렬 = 생성 순서 (merchant_uid 인덱스에 뒤쪽으로만 삽입)
+ */
+@Slf4j
+@Component
+public class SnowflakeIdGenerator {
+
+    /** 기준 시각 2025-01-01T00:00:00Z */
+    private static final long EPOCH = 1735689600000L;
+
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final long MAX_NODE = (1L << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private static final int ENCODED_LENGTH = 13;
+    private static final char[] CROCKFORD = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+
+    private final long nodeId;
+
+    /** (EPOCH 이후 ms << SEQUENCE_BITS) | 순번 */
+    private final AtomicLong state = new AtomicLong();
+
+    public SnowflakeIdGenerator(@Value("${id.generator.node-id:-1}") long configuredNodeId) {
+        this.nodeId = configuredNodeId >= 0 ? (configuredNodeId & MAX_NODE) : deriveNodeId();
+        log.info("🆔 ID 생성기 초기화: nodeId={}", nodeId);
+    }
+
+    /**
+     * 다음 ID
+     */
+    public long nextId() {
+        long now = currentTimeMillis() - EPOCH;
+        while (true) {
+            long previous = state.get();
+            long lastMillis = previous >>> SEQUENCE_BITS;
+            long next;
+            if (now > lastMillis) {
+                next = now << SEQUENCE_BITS;
+            } else {
+                // 같은 ms 이거나 시계가 뒤로 감: 이전 값 + 1 (순번이 넘치면 다음 ms 로 자연스럽게 넘어감)
+                next = previous + 1;
+            }
+            if (state.compareAndSet(previous, next)) {
+                long millis = next >>> SEQUENCE_BITS;
+                long sequence = next & SEQUENCE_MASK;
+                return (millis << (NODE_BITS + SEQUENCE_BITS)) | (nodeId << SEQUENCE_BITS) | sequence;
+            }
+        }
+    }
+
+    /**
+     * 접두어 + 고정 길이 Base32 ID (예: merchant_01J9Z3K7W2Q8R)
+     */
+    public String nextId(String prefix) {
+        long id = nextId();
+        char[] buffer = new char[prefix.length() + ENCODED_LENGTH];
+        prefix.getChars(0, prefix.length(), buffer, 0);
+        for (int i = buffer.length - 1; i >= prefix.length(); i--) {
+            buffer[i] = CROCKFORD[(int) (id & 31)];
+            id >>>= 5;
+        }
+        return new String(buffer);
+    }
+
+    /**
+     * 결제 주문번호 (회원 정보를 담지 않음)
+     */
+    public String nextMerchantUid() {
+        return nextId("merchant_");
+    }
+
+    public long getNodeId() {
+        return nodeId;
+    }
+
+    /** 현재 시각 (테스트에서 시계 되감기/고정용으로 재정의) */
+    long currentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+
+    /**
+     * 설정이 없으면 호스트명으로 노드 번호 결정 (인스턴스가 여러 대면 id.generator.node-id 지정 권장)
+     */
+    private static long deriveNodeId() {
+        try {
+            return InetAddress.getLocalHost().getHostName().hashCode() & MAX_NODE;
+        } catch (Exception e) {
+            return ProcessHandle.current().pid() & MAX_NODE;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.api.config;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import com.api.item.service.KamcoItemReadCache;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 물건 조회 API 조건부 GET (ETag / Last-Modified → 304)
+ * - 태그는 읽기 캐시의 데이터 버전에서 만들므로 컨트롤러/DB 를 거치기 전에 판단
+ * - Cache-Control: no-cache 로 브라우저가 사본을 쓰기 전에 항상 재검증 (본문은 바뀐 경우에만 전송)
+ * - 대상 경로는 WebMvcConfig 에서 등록 (읽기 캐시 버전으로 변경을 알 수 있는 목록만)
+ */
+@Component
+public class ConditionalGetInterceptor implements HandlerInterceptor {
+
+    private static final String CACHE_CONTROL = CacheControl.noCache().getHeaderValue();
+
+    private final KamcoItemReadCache readCache;
+
+    private final LongAdder checked = new LongAdder();
+    private final LongAdder notModified = new LongAdder();
+
+    public ConditionalGetInterceptor(KamcoItemReadCache readCache) {
+        this.readCache = readCache;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!HttpMethod.GET.matches(request.getMethod()) && !HttpMethod.HEAD.matches(request.getMethod())) {
+            return true;
+        }
+        checked.increment();
+        long now = System.currentTimeMillis();
+        // Spring Security 기본 no-store 헤더보다 먼저 설정 (이미 있으면 덮어쓰지 않음)
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        ServletWebRequest webRequest = new ServletWebRequest(request, response);
+        if (webRequest.checkNotModified(readCache.currentETag(now), readCache.currentLastModified(now))) {
+            notModified.increment();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 조건부 GET 메트릭
+     */
+    public Map<String, Object> getStats() {
+        long checkedCount = checked.sum();
+        long notModifiedCount = notModified.sum();
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("checked", checkedCount);
+        stats.put("notModified", notModifiedCount);
+        stats.put("notModifiedRate", checkedCount > 0 ? (double) notModifiedCount / checkedCount : 0.0);
+        stats.put("currentETag", readCache.currentETag(System.currentTimeMillis()));
+        return stats;
+    }
+}
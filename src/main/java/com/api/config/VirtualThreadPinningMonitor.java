@@ -0,0 +1,188 @@
+package com.api.config;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 가상 스레드 모드 점검/감시
+ * - spring.threads.virtual.enabled=true 이면 Tomcat 요청, @Async, @Scheduled 가 모두 가상 스레드에서 실행
+ * - 기동 시 JDBC 드라이버가 synchronized 기반(I/O 대기 중 캐리어 스레드 고정) 버전이면 경고
+ * - 실행 중에는 JFR jdk.VirtualThreadPinned 이벤트를 구독해 pinning 건수와 발생 위치를 집계
+ */
+@Slf4j
+@Component
+public class VirtualThreadPinningMonitor {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String APP_PACKAGE = "com.api.";
+    private static final int MAX_SITES = 50;
+
+    /** 드라이버별 synchronized → ReentrantLock 전환 버전 {major, minor} */
+    private static final Map<String, int[]> LOCK_SAFE_DRIVER_VERSIONS = Map.of(
+            "mariadb", new int[] {3, 3},
+            "postgresql", new int[] {42, 6});
+
+    private final DataSource dataSource;
+    private final boolean virtualThreadsEnabled;
+    private final boolean monitorEnabled;
+    private final long thresholdMs;
+
+    private final LongAdder pinnedEvents = new LongAdder();
+    private final LongAdder pinnedNanos = new LongAdder();
+    private final Map<String, LongAdder> pinnedSites = new ConcurrentHashMap<>();
+
+    private volatile RecordingStream recording;
+    private volatile String jdbcDriver;
+    private volatile Boolean jdbcDriverLockSafe;
+
+    public VirtualThreadPinningMonitor(DataSource dataSource,
+                                       @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreadsEnabled,
+                                       @Value("${virtual-thread.pinning-monitor.enabled:true}") boolean monitorEnabled,
+                                       @Value("${virtual-thread.pinning-monitor.threshold-ms:20}") long thresholdMs) {
+        this.dataSource = dataSource;
+        this.virtualThreadsEnabled = virtualThreadsEnabled;
+        this.monitorEnabled = monitorEnabled;
+        this.thresholdMs = Math.max(1, thresholdMs);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        if (!virtualThreadsEnabled) {
+            log.info("🧵 플랫폼 스레드 모드로 실행 중 (spring.threads.virtual.enabled=false)");
+            return;
+        }
+        log.info("🧵 가상 스레드 모드로 실행 중 (Tomcat 요청 / @Async / @Scheduled)");
+        checkJdbcDriver();
+        if (monitorEnabled) {
+            startRecording();
+        }
+    }
+
+    /**
+     * JDBC 드라이버 버전 확인 (구버전 드라이버는 소켓 I/O 를 synchronized 안에서 수행)
+     */
+    private void checkJdbcDriver() {
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            String name = metaData.getDriverName();
+            int major = metaData.getDriverMajorVersion();
+            int minor = metaData.getDriverMinorVersion();
+            jdbcDriver = name + " " + metaData.getDriverVersion();
+
+            String lowerName = name.toLowerCase(Locale.ROOT);
+            for (Map.Entry<String, int[]> entry : LOCK_SAFE_DRIVER_VERSIONS.entrySet()) {
+                if (lowerName.contains(entry.getKey())) {
+                    int[] required = entry.getValue();
+                    jdbcDriverLockSafe = major > required[0] || (major == required[0] && minor >= required[1]);
+                    break;
+                }
+            }
+            if (Boolean.FALSE.equals(jdbcDriverLockSafe)) {
+                log.warn("⚠️ JDBC 드라이버 {} 는 synchronized 기반이라 DB 대기 중 캐리어 스레드가 고정됩니다. 드라이버를 올리거나 spring.threads.virtual.enabled=false 로 실행하세요.", jdbcDriver);
+            } else {
+                log.info("🧵 JDBC 드라이버 확인: {} (pinning 안전: {})", jdbcDriver, jdbcDriverLockSafe == null ? "미확인" : jdbcDriverLockSafe);
+            }
+        } catch (Exception e) {
+            log.warn("⚠️ JDBC 드라이버 버전 확인 실패: {}", e.getMessage());
+        }
+    }
+
+    private void startRecording() {
+        try {
+            RecordingStream stream = new RecordingStream();
+            stream.enable(PINNED_EVENT).withThreshold(Duration.ofMillis(thresholdMs)).withStackTrace();
+            stream.onEvent(PINNED_EVENT, this::onPinned);
+            stream.startAsync();
+            recording = stream;
+            log.info("🧵 가상 스레드 pinning 감시 시작 (기준 {}ms 이상)", thresholdMs);
+        } catch (Exception e) {
+            // JFR 을 쓸 수 없는 런타임이면 감시 없이 계속 실행
+            log.warn("⚠️ 가상 스레드 pinning 감시 시작 실패: {}", e.getMessage());
+        }
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinnedEvents.increment();
+        pinnedNanos.add(event.getDuration().toNanos());
+
+        String site = pinnedSite(event.getStackTrace());
+        LongAdder count = pinnedSites.get(site);
+        if (count == null && pinnedSites.size() < MAX_SITES) {
+            count = pinnedSites.computeIfAbsent(site, key -> new LongAdder());
+            // 위치별 첫 발생만 경고 (같은 위치 반복은 메트릭으로 확인)
+            log.warn("📌 가상 스레드 pinning 감지: {} ({}ms)", site, event.getDuration().toMillis());
+        }
+        if (count != null) {
+            count.increment();
+        }
+    }
+
+    /**
+     * 고정을 일으킨 위치 (애플리케이션 코드 프레임 우선, 없으면 최상단 프레임)
+     */
+    private static String pinnedSite(RecordedStackTrace stackTrace) {
+        if (stackTrace == null || stackTrace.getFrames().isEmpty()) {
+            return "unknown";
+        }
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        for (RecordedFrame frame : frames) {
+            String type = frame.getMethod().getType().getName();
+            if (type.startsWith(APP_PACKAGE)) {
+                return frameName(frame);
+            }
+        }
+        return frameName(frames.get(0));
+    }
+
+    private static String frameName(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+
+    /**
+     * 가상 스레드 모드 메트릭
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Long> sites = new HashMap<>();
+        pinnedSites.forEach((site, count) -> sites.put(site, count.sum()));
+
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("virtualThreadsEnabled", virtualThreadsEnabled);
+        stats.put("pinningMonitorRunning", recording != null);
+        stats.put("pinningThresholdMs", thresholdMs);
+        stats.put("pinnedEvents", pinnedEvents.sum());
+        stats.put("pinnedTotalMs", pinnedNanos.sum() / 1_000_000);
+        stats.put("pinnedSites", sites);
+        stats.put("jdbcDriver", jdbcDriver);
+        stats.put("jdbcDriverLockSafe", jdbcDriverLockSafe);
+        return stats;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        RecordingStream stream = recording;
+        if (stream != null) {
+            stream.close();
+        }
+    }
+}
@@ -1,13 +1,33 @@
 package com.api.config;
 
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.ResourceUrlEncodingFilter;
+import org.springframework.web.servlet.resource.VersionResourceResolver;
 
 @Configuration
 public class WebMvcConfig implements WebMvcConfigurer {
 
+    private final ConditionalGetInterceptor conditionalGetInterceptor;
+    private final long staticMaxAgeDays;
+    private final long imageMaxAgeHours;
+
+    public WebMvcConfig(ConditionalGetInterceptor conditionalGetInterceptor,
+                        @Value("${web.static.max-age-days:365}") long staticMaxAgeDays,
+                        @Value("${web.static.image-max-age-hours:24}") long imageMaxAgeHours) {
+        this.conditionalGetInterceptor = conditionalGetInterceptor;
+        this.staticMaxAgeDays = staticMaxAgeDays;
+        this.imageMaxAgeHours = imageMaxAgeHours;
+    }
+
     @Override
     public void addCorsMappings(CorsRegistry registry) {
         registry.addMapping("/**")
@@ -18,29 +38,63 @@ public class WebMvcConfig implements WebMvcConfigurer {
                 .maxAge(3600);
     }
 
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // 읽기 캐시 버전으로 변경 여부를 알 수 있는 조회 API만 (상세는 조회수, 검색은 색인 갱신 시점이 달라 제외)
+        registry.addInterceptor(conditionalGetInterceptor)
+                .addPathPatterns(
+                        "/kamco-items/api/all",
+                        "/kamco-items/api/new",
+                        "/kamco-items/api/today-closing",
+                        "/kamco-items/api/discount-50",
+                        "/kamco-items/api/sido/**",
+                        "/kamco-items/api/category-stats",
+                        "/api/auction-info",
+                        "/api/auction-info/**");
+    }
+
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
-        // CSS, JS, 이미지 직접 매핑
+        // CSS, JS: 템플릿의 @{...} 링크가 내용 해시 경로(style-{hash}.css)로 바뀌므로 오래 캐시
+        boolean longCache = staticMaxAgeDays > 0;
+        CacheControl fingerprinted = longCache
+                ? CacheControl.maxAge(staticMaxAgeDays, TimeUnit.DAYS).cachePublic().immutable()
+                : CacheControl.noCache();
+
         registry.addResourceHandler("/css/**")
                 .addResourceLocations("classpath:/static/css/")
-                .setCachePeriod(0);
-        
+                .setCacheControl(fingerprinted)
+                .resourceChain(longCache)
+                .addResolver(new VersionResourceResolver().addContentVersionStrategy("/**"));
+
         registry.addResourceHandler("/js/**")
                 .addResourceLocations("classpath:/static/js/")
-                .setCachePeriod(0);
-        
+                .setCacheControl(fingerprinted)
+                .resourceChain(longCache)
+                .addResolver(new VersionResourceResolver().addContentVersionStrategy("/**"));
+
+        // 이미지: 스크립트에서 해시 없는 경로로도 참조하므로 짧게 캐시
         registry.addResourceHandler("/img/**")
                 .addResourceLocations("classpath:/static/img/")
-                .setCachePeriod(0);
-        
+                .setCacheControl(imageMaxAgeHours > 0
+                        ? CacheControl.maxAge(imageMaxAgeHours, TimeUnit.HOURS).cachePublic()
+                        : CacheControl.noCache())
+                .resourceChain(longCache)
+                .addResolver(new VersionResourceResolver().addContentVersionStrategy("/**"));
+
         // 업로드 파일 경로 매핑
         registry.addResourceHandler("/resources/upload/**")
                 .addResourceLocations("file:./upload/", "classpath:/static/upload/")
                 .setCachePeriod(0);
     }
-    
-    // Thymeleaf는 Spring Boot 자동 설정으로 처리됨
-}
-
 
+    /**
+     * Thymeleaf @{/css/...} 링크를 내용 해시 경로로 바꿔주는 필터
+     */
+    @Bean
+    public ResourceUrlEncodingFilter resourceUrlEncodingFilter() {
+        return new ResourceUrlEncodingFilter();
+    }
 
+    // Thymeleaf는 Spring Boot 자동 설정으로 처리됨
+}
@@ -0,0 +1,41 @@
+package com.api.favorite.domain;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 메일 발송 대기열 (KNMailOutbox)
+ * - PENDING → SENDING(워커 선점) → SENT / 재시도 시 PENDING / 한도 초과 시 FAILED
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MailOutbox {
+
+    public static final String STATUS_PENDING = "PENDING";
+    public static final String STATUS_SENDING = "SENDING";
+    public static final String STATUS_SENT = "SENT";
+    public static final String STATUS_FAILED = "FAILED";
+
+    public static final String TYPE_PRICE_DROP = "PRICE_DROP";   // 회원별 다이제스트로 묶어 발송
+    public static final String TYPE_GENERAL = "GENERAL";         // 한 건씩 그대로 발송
+
+    private Long id;
+    private String memberId;
+    private String toEmail;
+    private String recipientName;
+    private String mailType;
+    private String subject;
+    private String body;
+    private String status;
+    private Integer attempts;
+    private LocalDateTime nextAttemptAt;
+    private String claimToken;
+    private LocalDateTime claimedAt;
+    private String lastError;
+    private LocalDateTime createdDate;
+    private LocalDateTime sentDate;
+}
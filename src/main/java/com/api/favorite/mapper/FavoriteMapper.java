@@ -42,4 +42,10 @@ public interface FavoriteMapper {
     
     // 최근 알림 조회 (중복 알림 방지용)
     PriceAlert getLastPriceAlertByFavoriteId(@Param("favoriteId") Long favoriteId);
+    
+    // 즐겨찾기별 최근 알림 일괄 조회 (가격 모니터링용)
+    List<PriceAlert> getLastPriceAlertsByFavoriteIds(@Param("favoriteIds") List<Long> favoriteIds);
+    
+    // 가격 알림 히스토리 일괄 추가
+    void insertPriceAlertBatch(@Param("alerts") List<PriceAlert> alerts);
 }
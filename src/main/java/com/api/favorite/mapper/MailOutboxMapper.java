@@ -0,0 +1,46 @@
+package com.api.favorite.mapper;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import com.api.favorite.domain.MailOutbox;
+
+@Mapper
+public interface MailOutboxMapper {
+
+    // 발송 대기 메일 일괄 추가
+    int insertBatch(@Param("mails") List<MailOutbox> mails);
+
+    // 발송 시각이 된 대기 메일 ID 조회
+    List<Long> findDueIds(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    // 대기 메일 선점 (다른 워커가 먼저 가져간 행은 제외)
+    int claim(@Param("ids") List<Long> ids, @Param("token") String token, @Param("now") LocalDateTime now);
+
+    // 선점한 메일 조회
+    List<MailOutbox> findByClaimToken(@Param("token") String token);
+
+    // 발송 완료 처리
+    int markSent(@Param("ids") List<Long> ids, @Param("sentDate") LocalDateTime sentDate);
+
+    // 재시도 예약
+    int markRetry(@Param("ids") List<Long> ids,
+                  @Param("attempts") int attempts,
+                  @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                  @Param("lastError") String lastError);
+
+    // 최종 실패 처리
+    int markFailed(@Param("ids") List<Long> ids,
+                   @Param("attempts") int attempts,
+                   @Param("lastError") String lastError);
+
+    // 오래 선점된 채 남은 메일을 대기 상태로 되돌림 (워커 비정상 종료 대비)
+    int releaseStaleClaims(@Param("claimedBefore") LocalDateTime claimedBefore);
+
+    // 상태별 건수
+    List<Map<String, Object>> countByStatus();
+}
@@ -1,20 +1,25 @@
 package com.api.favorite.service;
 
 import java.sql.Timestamp;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.api.favorite.domain.Favorite;
+import com.api.favorite.domain.MailOutbox;
 import com.api.item.domain.Item;
 import com.api.item.domain.KamcoItem;
 import com.api.member.domain.Member;
@@ -24,6 +29,7 @@ import com.api.favorite.mapper.FavoriteMapper;
 import com.api.member.mapper.MemberMapper;
 import com.api.item.service.OnbidApiService;
 import com.api.item.service.KamcoItemService;
+import com.api.item.service.OnbidRateLimiter;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -37,8 +43,19 @@ public class FavoriteService {
     private final FavoriteMapper favoriteMapper;
     private final MemberMapper memberMapper;
     private final OnbidApiService onbidApiService;
-    private final JavaMailSender mailSender;
+    private final MailOutboxService mailOutboxService;
     private final KamcoItemService kamcoItemService;
+    private final OnbidRateLimiter rateLimiter;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${favorite.monitor.max-pages:10}")
+    private int monitorMaxPages;
+
+    @Value("${favorite.monitor.page-size:100}")
+    private int monitorPageSize;
+
+    @Value("${favorite.monitor.alert-batch-size:100}")
+    private int monitorAlertBatchSize;
 
     private Long extractItemId(Map<String, Object> requestBody) {
         log.info("========================================");
@@ -547,68 +564,56 @@ public class FavoriteService {
     // EmailService 통합 메서드
     // =============================================================================
     
-    @Async // 비동기 처리
+    /**
+     * 가격 하락 알림 메일 등록 (발송은 MailOutboxService 워커가 수행)
+     */
     public void sendPriceDropAlert(String toEmail, String memberName, Favorite favorite, Long newPrice, Long currentPrice) {
         try {
-            String itemName = favorite.getItem() != null && favorite.getItem().getCltrNm() != null 
-                ? favorite.getItem().getCltrNm() : "상품";
-            String cltrNo = favorite.getItem() != null && favorite.getItem().getCltrNo() != null 
-                ? favorite.getItem().getCltrNo() : "";
-            
-            String subject = "[가격 하락 알림] " + itemName;
-            StringBuilder content = new StringBuilder();
-            content.append("안녕하세요, ").append(memberName).append("님!\n\n");
-            content.append("즐겨찾기하신 상품의 가격이 하락했습니다.\n\n");
-            content.append("===========================================\n");
-            content.append("상품명: ").append(itemName).append("\n");
-            content.append("공고번호: ").append(cltrNo).append("\n");
-            content.append("이전 가격: ").append(formatPrice(currentPrice)).append("원\n");
-            content.append("현재 가격: ").append(formatPrice(newPrice)).append("원\n");
-
-            if (currentPrice != null && currentPrice > 0) {
-                long priceDrop = currentPrice - newPrice;
-                double dropRate = (double) priceDrop / currentPrice * 100;
-                content.append("하락 금액: ").append(formatPrice(priceDrop)).append("원 (")
-                       .append(String.format("%.1f", dropRate)).append("%)\n");
-            }
-
-            content.append("===========================================\n\n");
-            content.append("자세한 내용은 사이트에서 확인해주세요.\n\n");
-            content.append("감사합니다.");
-
-            sendEmailWithRetry(toEmail, subject, content.toString(), 3);
-
-            log.info("가격 하락 알림 이메일 전송 성공: {} -> {}", toEmail, itemName);
-
+            mailOutboxService.enqueueAll(List.of(
+                buildPriceDropMail(favorite.getUserId(), toEmail, memberName, favorite, newPrice, currentPrice)));
         } catch (Exception e) {
-            log.error("가격 하락 알림 이메일 전송 실패: {}", e.getMessage(), e);
+            log.error("가격 하락 알림 메일 등록 실패: {}", e.getMessage(), e);
         }
     }
 
     public void sendEmail(String toEmail, String subject, String content) {
-        sendEmailWithRetry(toEmail, subject, content, 3);
+        mailOutboxService.enqueue(null, toEmail, null, MailOutbox.TYPE_GENERAL, subject, content);
     }
 
     /**
-     * 이메일 재시도 처리
+     * 가격 하락 알림 메일 작성
+     * - 본문에는 물건별 항목만 담고, 인사말/맺음말은 발송 시 수신자별 다이제스트로 묶으면서 붙임
      */
-    private void sendEmailWithRetry(String toEmail, String subject, String content, int retryCount) {
-        for (int i = 0; i < retryCount; i++) {
-            try {
-                SimpleMailMessage message = new SimpleMailMessage();
-                message.setTo(toEmail);
-                message.setSubject(subject);
-                message.setText(content);
-
-                mailSender.send(message);
-                log.info("이메일 전송 성공: {}", toEmail);
-                return;
-
-            } catch (Exception e) {
-                log.error("이메일 전송 실패 ({}회차): {} - {}", i + 1, toEmail, e.getMessage());
-            }
+    private MailOutbox buildPriceDropMail(String memberId, String toEmail, String memberName,
+                                          Favorite favorite, Long newPrice, Long currentPrice) {
+        String itemName = favorite.getItem() != null && favorite.getItem().getCltrNm() != null 
+            ? favorite.getItem().getCltrNm() : "상품";
+        String cltrNo = favorite.getItem() != null && favorite.getItem().getCltrNo() != null 
+            ? favorite.getItem().getCltrNo() : "";
+
+        StringBuilder content = new StringBuilder();
+        content.append("===========================================\n");
+        content.append("상품명: ").append(itemName).append("\n");
+        content.append("공고번호: ").append(cltrNo).append("\n");
+        content.append("이전 가격: ").append(formatPrice(currentPrice)).append("원\n");
+        content.append("현재 가격: ").append(formatPrice(newPrice)).append("원\n");
+
+        if (currentPrice != null && currentPrice > 0) {
+            long priceDrop = currentPrice - newPrice;
+            double dropRate = (double) priceDrop / currentPrice * 100;
+            content.append("하락 금액: ").append(formatPrice(priceDrop)).append("원 (")
+                   .append(String.format("%.1f", dropRate)).append("%)\n");
         }
-        throw new RuntimeException("이메일 전송에 실패했습니다. 최대 재시도 횟수 초과.");
+        content.append("===========================================\n");
+
+        MailOutbox mail = new MailOutbox();
+        mail.setMemberId(memberId);
+        mail.setToEmail(toEmail);
+        mail.setRecipientName(memberName);
+        mail.setMailType(MailOutbox.TYPE_PRICE_DROP);
+        mail.setSubject("[가격 하락 알림] " + itemName);
+        mail.setBody(content.toString());
+        return mail;
     }
 
     /**
@@ -623,17 +628,24 @@ public class FavoriteService {
     /**
      * 가격 모니터링 스케줄러
      * 매일 오전 9시와 오후 6시에 실행
+     * - 감시 중인 물건번호(cltrNo)만 모아 온비드 API 에서 해당 시/도 페이지를 훑어 갱신 (모두 찾으면 조기 종료)
+     * - cltrNo → Item 해시맵으로 조인하고, 최근 알림·회원 정보는 IN 쿼리 한 번씩으로 일괄 조회
+     * - 알림 이력은 배치 INSERT, 갱신된 물건은 변경분만 DB 반영
+     * - API 호출 동안 DB 트랜잭션/커넥션을 잡지 않도록 트랜잭션 없이 실행
      */
     @Scheduled(cron = "0 0 9,18 * * *")
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void monitorPrices() {
         log.info("======================================");
         log.info("가격 모니터링 시작");
         log.info("======================================");
+        long start = System.currentTimeMillis();
         
         try {
-            // 알림이 활성화된 모든 즐겨찾기 조회
-            List<Favorite> favorites = favoriteMapper.getActiveAlertFavorites();
+            // 알림이 활성화된 모든 즐겨찾기 조회 (물건 정보 JOIN)
+            List<Favorite> favorites = favoriteMapper.getActiveAlertFavorites().stream()
+                    .filter(favorite -> favorite.getItem() != null && favorite.getItem().getCltrNo() != null)
+                    .toList();
             log.info("모니터링 대상 즐겨찾기 수: {}", favorites.size());
             
             if (favorites.isEmpty()) {
@@ -641,90 +653,33 @@ public class FavoriteService {
                 return;
             }
             
-            // API에서 최신 상품 정보 조회
-            List<Item> items = onbidApiService.getUnifyUsageCltr(null, 1, 100);
-            log.info("API에서 조회한 상품 수: {}", items.size());
-            
-            int alertCount = 0;
+            // 1. 감시 중인 물건만 API 에서 최신화
+            Map<String, Item> latestItems = refreshWatchedItems(favorites);
+            log.info("API에서 갱신한 감시 물건 수: {}", latestItems.size());
             
-            // 각 즐겨찾기에 대해 가격 확인
+            // 2. 가격 하락 후보 선별 (메모리 조인)
+            List<Favorite> dropped = new ArrayList<>();
             for (Favorite favorite : favorites) {
-                try {
-                    // 새로운 구조에서는 item 정보가 JOIN으로 포함됨
-                    if (favorite.getItem() == null || favorite.getItem().getCltrNo() == null) {
-                        log.debug("물건 정보가 없습니다: favoriteId={}", favorite.getFavoriteId());
-                        continue;
-                    }
-                    
-                    // 해당 상품 찾기
-                    Item matchedItem = findItemByPlnmNo(items, favorite.getItem().getCltrNo());
-                    
-                    if (matchedItem == null) {
-                        log.debug("상품을 찾을 수 없습니다: {}", favorite.getItem().getCltrNo());
-                        continue;
-                    }
-                    
-                    // 현재 가격 (최저입찰가 사용)
-                    Long newPrice = matchedItem.getMinBidPrc();
-                    if (newPrice == null) {
-                        log.debug("가격 정보가 없습니다: {}", favorite.getItem().getCltrNo());
-                        continue;
-                    }
-                    
-                    // 기존 가격 (물건의 최저입찰가 사용)
-                    Long currentPrice = favorite.getItem().getMinBidPrc();
-                    
-                    // 가격 변동 확인
-                    if (currentPrice != null && newPrice < currentPrice) {
-                        // 최근 알림 기록 확인
-                        PriceAlert lastAlert = favoriteMapper.getLastPriceAlertByFavoriteId(favorite.getFavoriteId());
-                        if (lastAlert != null && lastAlert.getNewPrice() != null && lastAlert.getNewPrice().equals(newPrice)) {
-                            log.info("이미 같은 가격으로 알림 전송됨: {} -> {}", favorite.getItem().getCltrNm(), newPrice);
-                            continue; // 중복 알림 방지
-                        }
-
-                        // 알림 전송
-                        Member member = memberMapper.getMemberInfo(favorite.getUserId());
-
-                        if (member != null && member.getMail() != null && !member.getMail().isEmpty()) {
-                            // 임시 Favorite 객체 생성 (이메일 전송용)
-                            Favorite tempFavorite = new Favorite();
-                            tempFavorite.setFavoriteId(favorite.getFavoriteId());
-                            tempFavorite.setItem(favorite.getItem());
-                            
-                            sendPriceDropAlert(
-                                member.getMail(),
-                                member.getName(),
-                                tempFavorite,
-                                newPrice,
-                                currentPrice
-                            );
-
-                            // 알림 히스토리 저장
-                            PriceAlert alert = new PriceAlert();
-                            alert.setFavoriteId(favorite.getFavoriteId());
-                            alert.setMemberId(favorite.getUserId());
-                            alert.setItemPlnmNo(favorite.getItem().getCltrNo());
-                            alert.setPreviousPrice(currentPrice);
-                            alert.setNewPrice(newPrice);
-                            alert.setAlertSent(true);
-                            alert.setSentDate(new Timestamp(System.currentTimeMillis()));
-
-                            favoriteMapper.insertPriceAlert(alert);
-
-                            alertCount++;
-                            log.info("알림 전송 완료: {} -> {}", member.getMail(), favorite.getItem().getCltrNm());
-                        }
-                    }
-                    
-                } catch (Exception e) {
-                    log.error("즐겨찾기 처리 중 오류: favoriteId={} - {}", 
-                        favorite.getFavoriteId(), e.getMessage(), e);
+                Item latest = latestItems.get(favorite.getItem().getCltrNo());
+                Long currentPrice = favorite.getItem().getMinBidPrc();
+                if (latest == null || latest.getMinBidPrc() == null || currentPrice == null) {
+                    continue;
+                }
+                if (latest.getMinBidPrc() < currentPrice) {
+                    dropped.add(favorite);
                 }
             }
             
+            int alertCount = dropped.isEmpty() ? 0 : sendPriceAlerts(dropped, latestItems);
+            
+            // 3. 갱신된 물건 가격 반영 (다음 모니터링의 기준 가격)
+            if (!latestItems.isEmpty()) {
+                kamcoItemService.saveChangedFromApiItems(new ArrayList<>(latestItems.values()));
+            }
+            
             log.info("======================================");
-            log.info("가격 모니터링 완료 - 전송된 알림 수: {}", alertCount);
+            log.info("가격 모니터링 완료 - 하락 감지: {}건, 등록된 알림 메일 수: {}, 소요: {}ms",
+                dropped.size(), alertCount, System.currentTimeMillis() - start);
             log.info("======================================");
             
         } catch (Exception e) {
@@ -733,20 +688,125 @@ public class FavoriteService {
     }
     
     /**
-     * 공고번호로 상품 찾기
+     * 감시 중인 물건번호만 API 에서 조회
+     * - 감시 물건이 속한 시/도별로 페이지를 순회하며, 해당 시/도의 감시 물건을 모두 찾으면 중단
+     * - 페이지 호출은 동기화 스케줄러와 같은 Rate Limiter 를 공유
      */
-    private Item findItemByPlnmNo(List<Item> items, String plnmNo) {
-        if (plnmNo == null) {
-            return null;
+    private Map<String, Item> refreshWatchedItems(List<Favorite> favorites) throws InterruptedException {
+        Map<String, Set<String>> watchedBySido = new HashMap<>();
+        for (Favorite favorite : favorites) {
+            // 시/도를 모르는 물건은 시/도 조건 없는(빈 값) 전체 조회 묶음에서 찾음
+            String sido = favorite.getItem().getSido() != null ? favorite.getItem().getSido() : "";
+            watchedBySido.computeIfAbsent(sido, key -> new HashSet<>()).add(favorite.getItem().getCltrNo());
         }
         
-        for (Item item : items) {
-            if (plnmNo.equals(item.getPlnmNo())) {
-                return item;
+        Map<String, Item> latestItems = new HashMap<>();
+        for (Map.Entry<String, Set<String>> entry : watchedBySido.entrySet()) {
+            Set<String> remaining = new HashSet<>(entry.getValue());
+            int pageNo = 1;
+            while (!remaining.isEmpty() && pageNo <= monitorMaxPages) {
+                rateLimiter.acquire();
+                List<Item> page = onbidApiService.getUnifyUsageCltr(entry.getKey(), pageNo, monitorPageSize);
+                for (Item item : page) {
+                    if (item.getCltrNo() != null && remaining.remove(item.getCltrNo())) {
+                        latestItems.put(item.getCltrNo(), item);
+                    }
+                }
+                if (page.size() < monitorPageSize) {
+                    break;
+                }
+                pageNo++;
             }
+            if (!remaining.isEmpty()) {
+                log.debug("API에서 찾지 못한 감시 물건: sido={}, {}건", entry.getKey(), remaining.size());
+            }
+        }
+        return latestItems;
+    }
+    
+    /**
+     * 가격 하락 알림 일괄 처리
+     * - 최근 알림·회원 정보를 IN 쿼리로 한 번에 조회해 중복 알림과 수신자 확인
+     * - 알림 이력은 배치 단위로 INSERT 후 메일 전송
+     */
+    private int sendPriceAlerts(List<Favorite> dropped, Map<String, Item> latestItems) {
+        List<Long> favoriteIds = dropped.stream().map(Favorite::getFavoriteId).toList();
+        Map<Long, PriceAlert> lastAlerts = new HashMap<>();
+        for (PriceAlert alert : favoriteMapper.getLastPriceAlertsByFavoriteIds(favoriteIds)) {
+            lastAlerts.putIfAbsent(alert.getFavoriteId(), alert);
         }
         
-        return null;
+        List<String> memberIds = dropped.stream().map(Favorite::getUserId).distinct().toList();
+        Map<String, Member> members = new HashMap<>();
+        for (Member member : memberMapper.getMembersByIds(memberIds)) {
+            members.put(member.getId(), member);
+        }
+        
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        List<PriceAlert> batch = new ArrayList<>();
+        List<Favorite> batchFavorites = new ArrayList<>();
+        int alertCount = 0;
+        
+        for (Favorite favorite : dropped) {
+            Long newPrice = latestItems.get(favorite.getItem().getCltrNo()).getMinBidPrc();
+            PriceAlert lastAlert = lastAlerts.get(favorite.getFavoriteId());
+            if (lastAlert != null && newPrice.equals(lastAlert.getNewPrice())) {
+                log.debug("이미 같은 가격으로 알림 전송됨: {} -> {}", favorite.getItem().getCltrNm(), newPrice);
+                continue; // 중복 알림 방지
+            }
+            
+            Member member = members.get(favorite.getUserId());
+            if (member == null || member.getMail() == null || member.getMail().isEmpty()) {
+                continue;
+            }
+            
+            PriceAlert alert = new PriceAlert();
+            alert.setFavoriteId(favorite.getFavoriteId());
+            alert.setMemberId(favorite.getUserId());
+            alert.setItemPlnmNo(favorite.getItem().getCltrNo());
+            alert.setPreviousPrice(favorite.getItem().getMinBidPrc());
+            alert.setNewPrice(newPrice);
+            alert.setAlertSent(true);
+            alert.setSentDate(now);
+            batch.add(alert);
+            batchFavorites.add(favorite);
+            
+            if (batch.size() >= monitorAlertBatchSize) {
+                alertCount += flushPriceAlerts(batch, batchFavorites, members);
+                batch = new ArrayList<>();
+                batchFavorites = new ArrayList<>();
+            }
+        }
+        if (!batch.isEmpty()) {
+            alertCount += flushPriceAlerts(batch, batchFavorites, members);
+        }
+        return alertCount;
+    }
+    
+    /**
+     * 알림 이력 배치 저장 + 메일 대기열 일괄 등록 (한 트랜잭션)
+     * - 메일 등록이 실패하면 이력도 롤백되어, 다음 모니터링에서 중복 방지에 막히지 않고 다시 알림
+     * - 같은 회원의 알림은 발송 시 다이제스트 한 통으로 묶임
+     */
+    private int flushPriceAlerts(List<PriceAlert> alerts, List<Favorite> alertFavorites, Map<String, Member> members) {
+        List<MailOutbox> mails = new ArrayList<>(alerts.size());
+        for (int i = 0; i < alerts.size(); i++) {
+            PriceAlert alert = alerts.get(i);
+            Member member = members.get(alert.getMemberId());
+            mails.add(buildPriceDropMail(alert.getMemberId(), member.getMail(), member.getName(),
+                alertFavorites.get(i), alert.getNewPrice(), alert.getPreviousPrice()));
+        }
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                favoriteMapper.insertPriceAlertBatch(alerts);
+                mailOutboxService.enqueueAll(mails);
+            });
+        } catch (Exception e) {
+            log.error("가격 알림 이력 저장/메일 등록 실패 ({}건): {}", alerts.size(), e.getMessage(), e);
+            return 0;
+        }
+        log.info("가격 알림 배치 처리: 저장 {}건, 메일 등록 {}건", alerts.size(), mails.size());
+        return mails.size();
     }
     
     /**
@@ -0,0 +1,369 @@
+package com.api.favorite.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.api.common.util.SnowflakeIdGenerator;
+import com.api.favorite.domain.MailOutbox;
+import com.api.favorite.mapper.MailOutboxMapper;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 메일 발송 대기열 (DB outbox) 및 발송 워커
+ * - 요청/스케줄러 스레드는 KNMailOutbox 에 INSERT 만 하고 바로 반환
+ * - 주기적으로 발송 시각이 된 메일을 선점해 고정 크기 워커 풀에서 발송
+ *   (워커 한 번의 send(MimeMessage...) 호출은 SMTP 연결 하나를 재사용)
+ * - 같은 수신자의 가격 하락 알림은 다이제스트 한 통으로 묶음
+ * - 실패 시 지수 백오프 + 지터로 재시도, 최대 시도 횟수를 넘으면 FAILED
+ * - SMTP 서버는 spring.mail.* 설정만 따르므로 로컬 테스트용 SMTP 서버로 바꿔 끼울 수 있음
+ */
+@Slf4j
+@Service
+public class MailOutboxService {
+
+    private static final int ERROR_MESSAGE_MAX = 500;
+
+    private final MailOutboxMapper outboxMapper;
+    private final JavaMailSender mailSender;
+    private final SnowflakeIdGenerator idGenerator;
+    private final boolean enabled;
+    private final int batchSize;
+    private final int workers;
+    private final int maxAttempts;
+    private final long baseBackoffMs;
+    private final long maxBackoffMs;
+    private final long staleClaimMs;
+
+    private final ThreadPoolExecutor workerPool;
+    private final ReentrantLock dispatchLock = new ReentrantLock();
+
+    private final LongAdder enqueued = new LongAdder();
+    private final LongAdder sentMessages = new LongAdder();
+    private final LongAdder sentMails = new LongAdder();
+    private final LongAdder digests = new LongAdder();
+    private final LongAdder retried = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private volatile LocalDateTime lastDispatchAt;
+
+    public MailOutboxService(MailOutboxMapper outboxMapper,
+                             JavaMailSender mailSender,
+                             SnowflakeIdGenerator idGenerator,
+                             @Value("${mail.outbox.enabled:true}") boolean enabled,
+                             @Value("${mail.outbox.batch-size:200}") int batchSize,
+                             @Value("${mail.outbox.workers:2}") int workers,
+                             @Value("${mail.outbox.max-attempts:6}") int maxAttempts,
+                             @Value("${mail.outbox.backoff-base-ms:30000}") long baseBackoffMs,
+                             @Value("${mail.outbox.backoff-max-ms:3600000}") long maxBackoffMs,
+                             @Value("${mail.outbox.stale-claim-ms:600000}") long staleClaimMs) {
+        this.outboxMapper = outboxMapper;
+        this.mailSender = mailSender;
+        this.idGenerator = idGenerator;
+        this.enabled = enabled;
+        this.batchSize = Math.max(1, batchSize);
+        this.workers = Math.max(1, workers);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.baseBackoffMs = Math.max(1000, baseBackoffMs);
+        this.maxBackoffMs = Math.max(this.baseBackoffMs, maxBackoffMs);
+        this.staleClaimMs = staleClaimMs;
+
+        AtomicInteger threadNo = new AtomicInteger();
+        this.workerPool = new ThreadPoolExecutor(this.workers, this.workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(this.workers * 2),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "mail-outbox-" + threadNo.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    /**
+     * 메일 1건 등록
+     */
+    public void enqueue(String memberId, String toEmail, String recipientName,
+                        String mailType, String subject, String body) {
+        MailOutbox mail = new MailOutbox();
+        mail.setMemberId(memberId);
+        mail.setToEmail(toEmail);
+        mail.setRecipientName(recipientName);
+        mail.setMailType(mailType);
+        mail.setSubject(subject);
+        mail.setBody(body);
+        enqueueAll(List.of(mail));
+    }
+
+    /**
+     * 메일 일괄 등록 (다중 VALUES INSERT 한 번)
+     */
+    public void enqueueAll(List<MailOutbox> mails) {
+        if (mails == null || mails.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        for (MailOutbox mail : mails) {
+            if (mail.getNextAttemptAt() == null) {
+                mail.setNextAttemptAt(now);
+            }
+        }
+        outboxMapper.insertBatch(mails);
+        enqueued.add(mails.size());
+        log.debug("📮 메일 대기열 등록: {}건", mails.size());
+    }
+
+    /**
+     * 발송 시각이 된 메일 선점 후 워커 풀에서 발송 (주기 실행)
+     */
+    @Scheduled(fixedDelayString = "${mail.outbox.poll-interval-ms:10000}")
+    public void dispatch() {
+        if (!enabled || !dispatchLock.tryLock()) {
+            return;
+        }
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            int released = outboxMapper.releaseStaleClaims(now.minusNanos(staleClaimMs * 1_000_000L));
+            if (released > 0) {
+                log.warn("⚠️ 오래 선점된 메일 {}건을 대기 상태로 되돌림", released);
+            }
+
+            List<Long> dueIds = outboxMapper.findDueIds(now, batchSize);
+            if (dueIds.isEmpty()) {
+                return;
+            }
+            String token = idGenerator.nextId("mail_");
+            outboxMapper.claim(dueIds, token, now);
+            List<MailOutbox> claimed = outboxMapper.findByClaimToken(token);
+            if (claimed.isEmpty()) {
+                return;
+            }
+
+            List<List<MailOutbox>> groups = groupByRecipient(claimed);
+            List<List<List<MailOutbox>>> chunks = partition(groups, workers);
+            List<Future<?>> futures = new ArrayList<>();
+            for (List<List<MailOutbox>> chunk : chunks) {
+                futures.add(workerPool.submit(() -> sendChunk(chunk)));
+            }
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (Exception e) {
+                    log.error("❌ 메일 발송 워커 오류: {}", e.getMessage(), e);
+                }
+            }
+            lastDispatchAt = LocalDateTime.now();
+            log.info("📨 메일 발송 주기 완료: 선점 {}건, 메시지 {}통", claimed.size(), groups.size());
+        } catch (Exception e) {
+            log.error("❌ 메일 대기열 처리 실패: {}", e.getMessage(), e);
+        } finally {
+            dispatchLock.unlock();
+        }
+    }
+
+    /**
+     * 수신자별 묶음
+     * - 가격 하락 알림은 같은 수신자끼리 한 통으로, 그 외 유형은 한 건씩
+     */
+    private List<List<MailOutbox>> groupByRecipient(List<MailOutbox> mails) {
+        Map<String, List<MailOutbox>> groups = new LinkedHashMap<>();
+        for (MailOutbox mail : mails) {
+            String key = MailOutbox.TYPE_PRICE_DROP.equals(mail.getMailType())
+                    ? mail.getMailType() + "|" + mail.getToEmail().toLowerCase()
+                    : "single|" + mail.getId();
+            groups.computeIfAbsent(key, k -> new ArrayList<>()).add(mail);
+        }
+        return new ArrayList<>(groups.values());
+    }
+
+    private List<List<List<MailOutbox>>> partition(List<List<MailOutbox>> groups, int parts) {
+        int chunkCount = Math.min(parts, groups.size());
+        List<List<List<MailOutbox>>> chunks = new ArrayList<>(chunkCount);
+        for (int i = 0; i < chunkCount; i++) {
+            chunks.add(new ArrayList<>());
+        }
+        for (int i = 0; i < groups.size(); i++) {
+            chunks.get(i % chunkCount).add(groups.get(i));
+        }
+        return chunks;
+    }
+
+    /**
+     * 워커 1회 발송 - 메시지를 모두 만든 뒤 send(MimeMessage...) 한 번으로 전송
+     */
+    private void sendChunk(List<List<MailOutbox>> groups) {
+        Map<MimeMessage, List<MailOutbox>> messages = new IdentityHashMap<>();
+        for (List<MailOutbox> group : groups) {
+            try {
+                messages.put(compose(group), group);
+            } catch (Exception e) {
+                scheduleRetry(group, e);
+            }
+        }
+        if (messages.isEmpty()) {
+            return;
+        }
+
+        try {
+            mailSender.send(messages.keySet().toArray(new MimeMessage[0]));
+            for (List<MailOutbox> group : messages.values()) {
+                markSent(group);
+            }
+        } catch (MailSendException e) {
+            Map<Object, Exception> failedMessages = e.getFailedMessages();
+            for (Map.Entry<MimeMessage, List<MailOutbox>> entry : messages.entrySet()) {
+                if (failedMessages.isEmpty()) {
+                    scheduleRetry(entry.getValue(), e);
+                } else if (failedMessages.containsKey(entry.getKey())) {
+                    scheduleRetry(entry.getValue(), failedMessages.get(entry.getKey()));
+                } else {
+                    markSent(entry.getValue());
+                }
+            }
+        } catch (MailException e) {
+            for (List<MailOutbox> group : messages.values()) {
+                scheduleRetry(group, e);
+            }
+        }
+    }
+
+    /**
+     * 메시지 작성 (다이제스트 유형은 인사말/맺음말을 한 번만 붙이고 항목 본문을 이어 붙임)
+     */
+    private MimeMessage compose(List<MailOutbox> group) throws Exception {
+        MailOutbox first = group.get(0);
+        String subject;
+        String body;
+
+        if (MailOutbox.TYPE_PRICE_DROP.equals(first.getMailType())) {
+            subject = group.size() == 1
+                    ? first.getSubject()
+                    : first.getSubject() + " 외 " + (group.size() - 1) + "건";
+            StringBuilder content = new StringBuilder();
+            String name = first.getRecipientName() != null ? first.getRecipientName() : "회원";
+            content.append("안녕하세요, ").append(name).append("님!\n\n");
+            if (group.size() == 1) {
+                content.append("즐겨찾기하신 상품의 가격이 하락했습니다.\n\n");
+            } else {
+                content.append("즐겨찾기하신 상품 ").append(group.size()).append("건의 가격이 하락했습니다.\n\n");
+            }
+            for (MailOutbox mail : group) {
+                content.append(mail.getBody()).append("\n");
+            }
+            content.append("자세한 내용은 사이트에서 확인해주세요.\n\n");
+            content.append("감사합니다.");
+            body = content.toString();
+        } else {
+            subject = first.getSubject();
+            body = first.getBody();
+        }
+
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, false, "UTF-8");
+        helper.setTo(first.getToEmail());
+        helper.setSubject(subject);
+        helper.setText(body, false);
+        return message;
+    }
+
+    private void markSent(List<MailOutbox> group) {
+        outboxMapper.markSent(idsOf(group), LocalDateTime.now());
+        sentMessages.increment();
+        sentMails.add(group.size());
+        if (group.size() > 1) {
+            digests.increment();
+        }
+    }
+
+    /**
+     * 재시도 예약 - 지수 백오프(base × 2^(시도-1), 상한 max)의 절반 ~ 전체 구간에서 무작위 지연
+     */
+    private void scheduleRetry(List<MailOutbox> group, Exception cause) {
+        int attempts = 0;
+        for (MailOutbox mail : group) {
+            attempts = Math.max(attempts, mail.getAttempts() != null ? mail.getAttempts() : 0);
+        }
+        attempts++;
+        String error = truncate(cause.getMessage());
+
+        if (attempts >= maxAttempts) {
+            outboxMapper.markFailed(idsOf(group), attempts, error);
+            failed.add(group.size());
+            log.error("❌ 메일 발송 최종 실패 ({}회 시도): {} - {}", attempts, group.get(0).getToEmail(), error);
+            return;
+        }
+
+        long exponential = baseBackoffMs << Math.min(attempts - 1, 20);
+        long delay = Math.min(maxBackoffMs, exponential);
+        long jittered = delay / 2 + ThreadLocalRandom.current().nextLong(delay / 2 + 1);
+        LocalDateTime nextAttemptAt = LocalDateTime.now().plusNanos(jittered * 1_000_000L);
+        outboxMapper.markRetry(idsOf(group), attempts, nextAttemptAt, error);
+        retried.add(group.size());
+        log.warn("⚠️ 메일 발송 실패 ({}회차, {}ms 후 재시도): {} - {}",
+                attempts, jittered, group.get(0).getToEmail(), error);
+    }
+
+    private List<Long> idsOf(List<MailOutbox> group) {
+        return group.stream().map(MailOutbox::getId).toList();
+    }
+
+    private String truncate(String message) {
+        if (message == null) {
+            return null;
+        }
+        return message.length() > ERROR_MESSAGE_MAX ? message.substring(0, ERROR_MESSAGE_MAX) : message;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workerPool.shutdown();
+    }
+
+    /**
+     * 대기열 메트릭 (상태별 건수 + 누적 발송/재시도/실패)
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        Map<String, Object> byStatus = new HashMap<>();
+        try {
+            for (Map<String, Object> row : outboxMapper.countByStatus()) {
+                byStatus.put(String.valueOf(row.get("status")), row.get("cnt"));
+            }
+        } catch (Exception e) {
+            log.warn("⚠️ 메일 대기열 상태 조회 실패: {}", e.getMessage());
+        }
+        stats.put("enabled", enabled);
+        stats.put("byStatus", byStatus);
+        stats.put("workers", workers);
+        stats.put("activeWorkers", workerPool.getActiveCount());
+        stats.put("enqueued", enqueued.sum());
+        stats.put("sentMessages", sentMessages.sum());
+        stats.put("sentMails", sentMails.sum());
+        stats.put("digests", digests.sum());
+        stats.put("retried", retried.sum());
+        stats.put("failed", failed.sum());
+        stats.put("lastDispatchAt", lastDispatchAt);
+        return stats;
+    }
+}
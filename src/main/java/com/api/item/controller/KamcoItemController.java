@@ -18,7 +18,9 @@ import org.springframework.web.bind.annotation.ResponseBody;
 import com.api.item.domain.KamcoItem;
 import com.api.member.domain.Member;
 import com.api.item.domain.NewItemNotification;
+import com.api.item.dto.KamcoItemCategoryCount;
 import com.api.item.dto.KamcoItemResponse;
+import com.api.auction.service.MainPageSnapshotService;
 import com.api.common.util.HttpUtilService;
 import com.api.item.service.KamcoItemFacadeService;
 import com.api.item.service.KamcoItemService;
@@ -42,6 +44,7 @@ public class KamcoItemController {
     private final NewItemNotificationService notificationService;
     private final HttpUtilService httpUtilService;
     private final KamcoItemFacadeService kamcoItemFacadeService;
+    private final MainPageSnapshotService mainPageSnapshotService;
     private final com.api.admin.service.AdminService adminService;
 
     // =============================================================================
@@ -89,7 +92,7 @@ public class KamcoItemController {
         String memberId = httpUtilService.getMemberId(request);
         String ipAddress = httpUtilService.getClientIp(request);
         String userAgent = request.getHeader("User-Agent");
-        kamcoItemService.incrementViewCount(id, memberId, ipAddress, userAgent);
+        kamcoItemService.incrementViewCount(item, memberId, ipAddress, userAgent);
         
         // 50% 체감 물건 조회
         List<KamcoItem> discountItems = kamcoItemService.get50PercentDiscountItems(20);
@@ -106,7 +109,7 @@ public class KamcoItemController {
     @GetMapping("/main-data")
     @ResponseBody
     public ResponseEntity<Map<String, Object>> getMainData() {
-        return kamcoItemFacadeService.buildMainDataResponse().toResponseEntity();
+        return mainPageSnapshotService.buildMainDataResponse().toResponseEntity();
     }
 
     // =============================================================================
@@ -119,11 +122,7 @@ public class KamcoItemController {
     @GetMapping("/api/all")
     @ResponseBody
     public ResponseEntity<List<KamcoItemResponse>> getAllItems() {
-        List<KamcoItem> items = kamcoItemService.getAllItems();
-        List<KamcoItemResponse> response = items.stream()
-                .map(KamcoItemResponse::from)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok(kamcoItemService.getAllItemResponses());
     }
     
     /**
@@ -133,11 +132,7 @@ public class KamcoItemController {
     @ResponseBody
     public ResponseEntity<List<KamcoItemResponse>> getNewItems(
             @RequestParam(value = "limit", defaultValue = "20") int limit) {
-        List<KamcoItem> items = kamcoItemService.getNewItems(limit);
-        List<KamcoItemResponse> response = items.stream()
-                .map(KamcoItemResponse::from)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok(kamcoItemService.getNewItemResponses(limit));
     }
     
     /**
@@ -146,11 +141,7 @@ public class KamcoItemController {
     @GetMapping("/api/today-closing")
     @ResponseBody
     public ResponseEntity<List<KamcoItemResponse>> getTodayClosingItems() {
-        List<KamcoItem> items = kamcoItemService.getTodayClosingItems();
-        List<KamcoItemResponse> response = items.stream()
-                .map(KamcoItemResponse::from)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok(kamcoItemService.getTodayClosingItemResponses());
     }
     
     /**
@@ -160,11 +151,7 @@ public class KamcoItemController {
     @ResponseBody
     public ResponseEntity<List<KamcoItemResponse>> get50PercentDiscountItems(
             @RequestParam(value = "limit", defaultValue = "20") int limit) {
-        List<KamcoItem> items = kamcoItemService.get50PercentDiscountItems(limit);
-        List<KamcoItemResponse> response = items.stream()
-                .map(KamcoItemResponse::from)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok(kamcoItemService.get50PercentDiscountItemResponses(limit));
     }
     
     
@@ -174,11 +161,18 @@ public class KamcoItemController {
     @GetMapping("/api/sido/{sido}")
     @ResponseBody
     public ResponseEntity<List<KamcoItemResponse>> getBySido(@PathVariable String sido) {
-        List<KamcoItem> items = kamcoItemService.getBySido(sido);
-        List<KamcoItemResponse> response = items.stream()
-                .map(KamcoItemResponse::from)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok(kamcoItemService.getItemResponsesBySido(sido));
+    }
+    
+    /**
+     * 용도별 물건 수 집계 (sido=all 이면 전체 시도)
+     */
+    @GetMapping("/api/category-stats")
+    @ResponseBody
+    public ResponseEntity<List<KamcoItemCategoryCount>> getCategoryStats(
+            @RequestParam(value = "sido", defaultValue = "서울특별시") String sido,
+            @RequestParam(value = "byDisposalMethod", defaultValue = "false") boolean byDisposalMethod) {
+        return ResponseEntity.ok(kamcoItemService.getCategoryCounts(sido, byDisposalMethod));
     }
     
     /**
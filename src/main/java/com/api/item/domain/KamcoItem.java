@@ -68,6 +68,7 @@ public class KamcoItem {
     private Boolean isNew;              // 신규 물건 여부
     private Boolean isActive;           // 활성화 여부
     private LocalDateTime apiSyncDate;  // API 동기화 일시
+    private String contentHash;         // API 데이터 내용 해시 (증분 동기화 변경 감지용)
     
     // 관리 일시
     private LocalDateTime createdDate;
@@ -0,0 +1,23 @@
+package com.api.item.domain;
+
+import java.time.LocalDateTime;
+import lombok.Data;
+
+/**
+ * 캠코 온비드 물건 가격 이력 (물건번호 + 공매번호 당 한 점, 추가만 함)
+ * 하락률은 저장 시 계산해 둠 ((감정가 - 최저입찰가) / 감정가 * 100)
+ */
+@Data
+public class KamcoItemPriceHistory {
+    private Long id;
+    private String cltrNo;              // 물건번호
+    private String pbctNo;              // 공매번호 (회차)
+    private String cltrHstrNo;          // 물건이력번호
+    private String pbctBegnDtm;         // 입찰시작일시 (yyyyMMddHHmmss)
+    private String pbctClsDtm;          // 입찰종료일시 (yyyyMMddHHmmss)
+    private Long minBidPrc;             // 최저입찰가
+    private Long apslAsesAvgAmt;        // 감정평가액 평균
+    private Double dropRate;            // 감정가 대비 하락률 (%)
+    private Integer uscbCnt;            // 유찰횟수
+    private LocalDateTime recordedDate; // 기록일시
+}
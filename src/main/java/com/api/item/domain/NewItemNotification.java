@@ -1,6 +1,8 @@
 package com.api.item.domain;
 
 import java.time.LocalDateTime;
+import java.util.Set;
+
 import lombok.Data;
 
 /**
@@ -8,6 +10,12 @@ import lombok.Data;
  */
 @Data
 public class NewItemNotification {
+
+    public static final String TYPE_NEW = "NEW";
+    public static final String TYPE_PRICE_DROP = "PRICE_DROP";
+    public static final String TYPE_DEADLINE = "DEADLINE";
+    public static final Set<String> TYPES = Set.of(TYPE_NEW, TYPE_PRICE_DROP, TYPE_DEADLINE);
+
     private Long id;
     private Long itemId;
     private String cltrNo;
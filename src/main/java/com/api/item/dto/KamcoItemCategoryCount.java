@@ -0,0 +1,15 @@
+package com.api.item.dto;
+
+import lombok.Data;
+
+/**
+ * 용도(카테고리)별 물건 수 집계 결과
+ * - dpslMtdNm 은 처분방식까지 나눠 집계한 경우에만 채워짐
+ */
+@Data
+public class KamcoItemCategoryCount {
+    private String sido;                // 시도
+    private String ctgrFullNm;          // 카테고리 전체명
+    private String dpslMtdNm;           // 처분방식명 (선택)
+    private Long itemCount;             // 물건 수
+}
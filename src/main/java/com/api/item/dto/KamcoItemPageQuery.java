@@ -0,0 +1,31 @@
+package com.api.item.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * 물건 목록 키셋 페이지 조회 조건
+ * - 정렬: created_date DESC, id DESC (50% 체감은 uscb_cnt DESC, min_bid_prc ASC 이고 offset 으로만 이동)
+ * - cursorId 가 있으면 키셋, 없으면 offset 으로 시작 위치 지정
+ * - cursorCreatedDate 가 null 인 커서 = created_date 가 없는 행 구간 안의 위치
+ */
+@Data
+@Builder(toBuilder = true)
+public class KamcoItemPageQuery {
+    private String sido;                        // 시도 (null/"all" 이면 전체)
+    private boolean onlyNew;                    // 신규 물건만 (유찰 0회)
+    private boolean discount50;                 // 50% 체감 물건만 (유찰 3회 이상)
+    private LocalDateTime cursorCreatedDate;    // 이전 페이지 마지막 행 created_date (없으면 null)
+    private Long cursorId;                      // 이전 페이지 마지막 행 id
+    private int offset;                         // 커서 없이 페이지 번호로 이동할 때만 사용
+    private int limit;                          // 조회 건수 (다음 페이지 확인용 +1 포함)
+
+    /**
+     * 캐시 키 (필터 조건만, 위치 제외)
+     */
+    public String filterKey() {
+        return sido + ":" + onlyNew + ":" + discount50;
+    }
+}
@@ -1,8 +1,13 @@
 package com.api.item.mapper;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import org.apache.ibatis.annotations.*;
+import org.apache.ibatis.cursor.Cursor;
 import com.api.item.domain.KamcoItem;
+import com.api.item.dto.KamcoItemCategoryCount;
+import com.api.item.dto.KamcoItemPageQuery;
 
 /**
  * 캠코 온비드 공매 물건 Mapper
@@ -44,6 +49,12 @@ public interface KamcoItemMapper {
      */
     List<KamcoItem> findAll();
     
+    /**
+     * 활성 물건 스트리밍 조회 (통계 스냅샷용 컬럼만, 트랜잭션 안에서만 사용)
+     * XML Mapper에서 databaseId로 분기 처리 (mysql/postgresql)
+     */
+    Cursor<KamcoItem> streamActiveItems();
+    
     /**
      * 신규 물건 조회
      * XML Mapper에서 databaseId로 분기 처리 (mysql/postgresql)
@@ -92,18 +103,69 @@ public interface KamcoItemMapper {
      */
     List<KamcoItem> findBySido(@Param("sido") String sido);
     
+    /**
+     * 용도별 물건 수 집계 (GROUP BY sido, ctgr_full_nm [, dpsl_mtd_nm])
+     * sido 가 null/"all" 이면 전체 시도
+     * XML Mapper에서 databaseId로 분기 처리 (mysql/postgresql)
+     */
+    List<KamcoItemCategoryCount> countByCategory(@Param("sido") String sido,
+                                                 @Param("byDisposalMethod") boolean byDisposalMethod);
+    
+    /**
+     * 키셋 페이지 조회 (created_date DESC, id DESC)
+     * XML Mapper에서 databaseId로 분기 처리 (mysql/postgresql)
+     */
+    List<KamcoItem> findPage(KamcoItemPageQuery query);
+    
+    /**
+     * 키셋 페이지 조건의 전체 건수
+     * XML Mapper에서 databaseId로 분기 처리 (mysql/postgresql)
+     */
+    long countPage(KamcoItemPageQuery query);
+    
     /**
      * 삽입 (중복 시 업데이트)
      * XML Mapper에서 databaseId로 분기 처리 (mysql/postgresql)
      */
     void insertOrUpdate(KamcoItem item);
     
+    /**
+     * 일괄 삽입 (중복 시 업데이트, 다중 VALUES 한 문장)
+     * view_count/interest_count/is_new 는 SQL에서 기존 값 유지
+     * XML Mapper에서 databaseId로 분기 처리 (mysql/postgresql)
+     */
+    int insertOrUpdateBatch(@Param("items") List<KamcoItem> items);
+    
+    /**
+     * 물건번호 목록의 내용 해시 조회 (cltrNo, contentHash 만 채워짐)
+     * XML Mapper에서 databaseId로 분기 처리 (mysql/postgresql)
+     */
+    List<KamcoItem> findContentHashesByCltrNos(@Param("cltrNos") List<String> cltrNos);
+    
+    /**
+     * 물건번호 목록으로 전체 컬럼 조회 (검색 색인 증분 갱신용)
+     * XML Mapper에서 databaseId로 분기 처리 (mysql/postgresql)
+     */
+    List<KamcoItem> findByCltrNos(@Param("cltrNos") List<String> cltrNos);
+    
+    /**
+     * 가격 이력 화면용 활성 물건 목록 (scrnGrpCd 가 null 이면 전체, 최신 등록순 최대 limit 건)
+     * XML Mapper에서 databaseId로 분기 처리 (mysql/postgresql)
+     */
+    List<KamcoItem> findActiveForHistory(@Param("scrnGrpCd") String scrnGrpCd, @Param("limit") int limit);
+    
     /**
      * 조회수 증가
      * XML Mapper에서 처리
      */
     void incrementViewCount(Long id);
     
+    /**
+     * 누적 조회수 일괄 반영 (물건 id → 증가분)
+     * XML Mapper에서 databaseId로 분기 처리 (mysql/postgresql)
+     */
+    void addViewCounts(@Param("deltas") Map<Long, Long> deltas);
+    
     /**
      * 관심수 증가
      * XML Mapper에서 처리
@@ -141,16 +203,18 @@ public interface KamcoItemMapper {
     int deleteAll();
     
     /**
-     * 신규 물건 플래그 해제
+     * 신규 물건 플래그 해제 (cutoff 이전 등록분, 최대 limit 건씩)
      * XML Mapper에서 databaseId로 분기 처리 (mysql/postgresql)
+     * @return 처리된 행 수
      */
-    void unmarkOldNewItems();
+    int unmarkOldNewItems(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
     
     /**
-     * 종료된 물건 비활성화
+     * 종료된 물건 비활성화 (최대 limit 건씩)
      * XML Mapper에서 databaseId로 분기 처리 (mysql/postgresql)
+     * @return 처리된 행 수
      */
-    void deactivateExpiredItems();
+    int deactivateExpiredItems(@Param("limit") int limit);
     
     /**
      * 검색 (물건명, 주소)
@@ -0,0 +1,35 @@
+package com.api.item.mapper;
+
+import java.util.List;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import com.api.item.domain.KamcoItemPriceHistory;
+
+/**
+ * 캠코 온비드 물건 가격 이력 Mapper
+ */
+@Mapper
+public interface KamcoItemPriceHistoryMapper {
+
+    /**
+     * 가격 이력 다중 행 추가 (이미 기록된 물건번호 + 공매번호는 최신 값으로 갱신)
+     * - 같은 회차 안에서 최저입찰가 등이 정정되면 그 회차의 점을 덮어씀
+     * XML Mapper에서 databaseId로 분기 처리 (mysql/postgresql)
+     * @return 드라이버가 보고한 영향 행 수 (추가 + 갱신)
+     */
+    int insertOrUpdateBatch(@Param("points") List<KamcoItemPriceHistory> points);
+
+    /**
+     * 물건 하나의 가격 이력 (입찰시작일시 오름차순)
+     * XML Mapper에서 databaseId로 분기 처리 (mysql/postgresql)
+     */
+    List<KamcoItemPriceHistory> findByCltrNo(@Param("cltrNo") String cltrNo);
+
+    /**
+     * 물건번호 목록의 가격 이력 (물건번호, 입찰시작일시 오름차순)
+     * XML Mapper에서 databaseId로 분기 처리 (mysql/postgresql)
+     */
+    List<KamcoItemPriceHistory> findByCltrNos(@Param("cltrNos") List<String> cltrNos);
+}
@@ -1,5 +1,8 @@
 package com.api.item.mapper;
 
+import java.time.LocalDate;
+import java.util.List;
+
 import org.apache.ibatis.annotations.*;
 import com.api.item.domain.KamcoItemStats;
 
@@ -10,19 +13,23 @@ import com.api.item.domain.KamcoItemStats;
 public interface KamcoItemStatsMapper {
     
     /**
-     * 통계 스냅샷 저장 (중복 시 업데이트)
+     * 활성 물건 전체의 일일 스냅샷을 INSERT ... SELECT 한 문장으로 생성 (같은 날짜는 덮어씀)
+     * XML Mapper에서 databaseId로 분기 처리 (mysql/postgresql)
+     * @return 영향 행 수 (MySQL 은 갱신된 행을 2로 셈)
+     */
+    int snapshotDailyStats(@Param("statDate") LocalDate statDate);
+    
+    /**
+     * 통계 스냅샷 다중 행 UPSERT
+     * XML Mapper에서 databaseId로 분기 처리 (mysql/postgresql)
      */
-    @Insert("INSERT INTO KNKamcoItemStats(item_id, cltr_no, stat_date, view_count, interest_count) " +
-            "VALUES(#{itemId}, #{cltrNo}, #{statDate}, #{viewCount}, #{interestCount}) " +
-            "ON DUPLICATE KEY UPDATE " +
-            "view_count=VALUES(view_count), interest_count=VALUES(interest_count)")
-    @Options(useGeneratedKeys = true, keyProperty = "id")
-    void insertOrUpdate(KamcoItemStats stats);
+    int upsertBatch(@Param("stats") List<KamcoItemStats> stats);
     
     /**
-     * 오래된 통계 삭제 (90일 이상)
+     * 오래된 통계 삭제 (cutoff 이전 날짜, 최대 limit 건씩)
+     * XML Mapper에서 databaseId로 분기 처리 (mysql/postgresql)
+     * @return 삭제된 행 수
      */
-    @Delete("DELETE FROM KNKamcoItemStats WHERE stat_date < DATE_SUB(CURDATE(), INTERVAL 90 DAY)")
-    void deleteOldStats();
+    int deleteOldStats(@Param("cutoff") LocalDate cutoff, @Param("limit") int limit);
 }
 
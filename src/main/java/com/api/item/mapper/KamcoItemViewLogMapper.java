@@ -1,5 +1,8 @@
 package com.api.item.mapper;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 import org.apache.ibatis.annotations.*;
 import com.api.item.domain.KamcoItemViewLog;
 
@@ -18,9 +21,65 @@ public interface KamcoItemViewLogMapper {
     void insert(KamcoItemViewLog viewLog);
     
     /**
-     * 오래된 로그 삭제 (30일 이상)
+     * 조회 이력 일괄 추가 (조회 시각은 기록 시점 값 사용)
+     */
+    @Insert({"<script>",
+            "INSERT INTO KNKamcoItemViewLog(item_id, cltr_no, member_id, ip_address, user_agent, view_date) VALUES ",
+            "<foreach collection='logs' item='log' separator=','>",
+            "(#{log.itemId}, #{log.cltrNo}, #{log.memberId}, #{log.ipAddress}, #{log.userAgent}, #{log.viewDate})",
+            "</foreach>",
+            "</script>"})
+    int insertBatch(@Param("logs") List<KamcoItemViewLog> logs);
+    
+    /**
+     * 오래된 로그 삭제 (cutoff 이전 조회분, 최대 limit 건씩)
+     * XML Mapper에서 databaseId로 분기 처리 (mysql/postgresql)
+     * @return 삭제된 행 수
+     */
+    int deleteOldLogs(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+    
+    /**
+     * 조회 이력 테이블이 파티션 테이블인지 (PostgreSQL 전용)
+     */
+    boolean isPartitioned();
+    
+    /**
+     * 월별 파티션 목록 (PostgreSQL 파티션 테이블 전용)
+     */
+    List<String> findPartitionNames();
+    
+    /**
+     * 월별 파티션 생성 (PostgreSQL 파티션 테이블 전용, 범위는 [from, to))
+     * @param name 파티션 테이블명 (KNKamcoItemViewLog_pYYYYMM)
+     * @param from 시작일 (yyyy-MM-dd)
+     * @param to 종료일 (yyyy-MM-dd, 미포함)
+     */
+    void createPartition(@Param("name") String name, @Param("from") String from, @Param("to") String to);
+    
+    /**
+     * 기본 파티션에 들어 있는 [from, to) 구간 행 수 (PostgreSQL 파티션 테이블 전용)
+     */
+    long countDefaultRows(@Param("from") String from, @Param("to") String to);
+    
+    /**
+     * 기본 파티션의 [from, to) 구간 행을 트랜잭션 임시 테이블(view_log_move)로 복사
+     * 같은 트랜잭션에서 deleteDefaultRows → createPartition → restoreStashedRows 순서로 사용
+     */
+    void stashDefaultRows(@Param("from") String from, @Param("to") String to);
+    
+    /**
+     * 기본 파티션의 [from, to) 구간 행 삭제
+     */
+    int deleteDefaultRows(@Param("from") String from, @Param("to") String to);
+    
+    /**
+     * 임시 테이블로 옮겨 둔 행을 조회 이력 테이블에 다시 추가
+     */
+    int restoreStashedRows();
+    
+    /**
+     * 월별 파티션 삭제 (PostgreSQL 파티션 테이블 전용)
      */
-    @Delete("DELETE FROM KNKamcoItemViewLog WHERE view_date < DATE_SUB(NOW(), INTERVAL 30 DAY)")
-    void deleteOldLogs();
+    void dropPartition(@Param("name") String name);
 }
 
@@ -1,5 +1,6 @@
 package com.api.item.mapper;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import org.apache.ibatis.annotations.*;
 import com.api.item.domain.NewItemNotification;
@@ -38,16 +39,32 @@ public interface NewItemNotificationMapper {
     void insert(NewItemNotification notification);
     
     /**
-     * 만료된 공지 삭제
+     * 아직 공지되지 않은 물건의 공지를 INSERT ... SELECT 한 문장으로 생성 (NOT EXISTS 안티 조인)
+     * XML Mapper에서 databaseId로 분기 처리 (mysql/postgresql)
+     * @param type 공지 타입 (NEW: 신규, PRICE_DROP: since 이후 유찰로 가격 하락, DEADLINE: 마감 구간 내)
+     * @param deadlineFrom 마감 구간 시작 (yyyyMMddHHmmss, DEADLINE 전용)
+     * @param deadlineUntil 마감 구간 끝 (yyyyMMddHHmmss, DEADLINE 전용)
+     * @return 생성된 공지 수
      */
-    @Delete("DELETE FROM KNNewItemNotification WHERE expired_date < NOW()")
-    void deleteExpired();
+    int insertForUnnotifiedItems(@Param("type") String type,
+                                 @Param("limit") int limit,
+                                 @Param("expiredDate") LocalDateTime expiredDate,
+                                 @Param("since") LocalDateTime since,
+                                 @Param("deadlineFrom") String deadlineFrom,
+                                 @Param("deadlineUntil") String deadlineUntil);
     
     /**
-     * 오래된 공지 숨김 처리 (30일 이상)
+     * 만료된 공지 삭제 (최대 limit 건씩)
+     * XML Mapper에서 databaseId로 분기 처리 (mysql/postgresql)
+     * @return 삭제된 행 수
      */
-    @Update("UPDATE KNNewItemNotification SET is_displayed = 0 " +
-            "WHERE created_date < DATE_SUB(NOW(), INTERVAL 30 DAY)")
-    void hideOldNotifications();
+    int deleteExpired(@Param("limit") int limit);
+    
+    /**
+     * 오래된 공지 숨김 처리 (cutoff 이전 생성분, 최대 limit 건씩)
+     * XML Mapper에서 databaseId로 분기 처리 (mysql/postgresql)
+     * @return 처리된 행 수
+     */
+    int hideOldNotifications(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
 }
 
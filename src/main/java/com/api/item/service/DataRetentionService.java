@@ -0,0 +1,346 @@
+package com.api.item.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.api.item.mapper.KamcoItemMapper;
+import com.api.item.mapper.KamcoItemStatsMapper;
+import com.api.item.mapper.KamcoItemViewLogMapper;
+import com.api.item.mapper.NewItemNotificationMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 데이터 보관 정책 실행기 (매일 cleanupData 에서 호출)
+ * - 정책마다 최대 chunk-size 건씩 나눠 UPDATE/DELETE 하고 청크 사이에 pause-ms 만큼 쉼 (짧은 잠금, undo/WAL 분산)
+ * - 청크마다 바로 커밋되고 처리된 행은 조건에서 빠지므로, 중단되거나 1회 한도(max-chunks-per-run)에 걸려도 다음 실행이 이어서 처리
+ * - 조회 이력이 월별 파티션 테이블(PostgreSQL, 07_view_log_partition.sql 로 전환)이면 보관 기간이 지난 달은
+ *   파티션째 DROP 하고 앞으로 쓸 달은 기동 시/실행 시 미리 생성 (MySQL 이거나 파티션 테이블이 아니면 행 단위 삭제만)
+ */
+@Slf4j
+@Service
+public class DataRetentionService {
+
+    public static final String POLICY_NEW_FLAG = "new-flag";
+    public static final String POLICY_EXPIRED_ITEMS = "expired-items";
+    public static final String POLICY_EXPIRED_NOTIFICATIONS = "expired-notifications";
+    public static final String POLICY_HIDE_NOTIFICATIONS = "hide-notifications";
+    public static final String POLICY_VIEW_LOG = "view-log";
+    public static final String POLICY_STATS = "stats";
+
+    private static final String VIEW_LOG_PARTITION_PREFIX = "KNKamcoItemViewLog_p";
+    private static final Pattern VIEW_LOG_PARTITION = Pattern.compile(VIEW_LOG_PARTITION_PREFIX + "(\\d{6})");
+    private static final DateTimeFormatter PARTITION_MONTH = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private final KamcoItemMapper kamcoItemMapper;
+    private final NewItemNotificationMapper notificationMapper;
+    private final KamcoItemViewLogMapper viewLogMapper;
+    private final KamcoItemStatsMapper statsMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final String databaseId;
+
+    private final int chunkSize;
+    private final long pauseMs;
+    private final int maxChunksPerRun;
+    private final int newFlagDays;
+    private final int notificationHideDays;
+    private final int viewLogDays;
+    private final int statsDays;
+    private final boolean viewLogPartitioned;
+    private final int precreateMonths;
+
+    private final ReentrantLock runLock = new ReentrantLock();
+    private final Map<String, PolicyResult> lastResults = new ConcurrentHashMap<>();
+    private final LongAdder droppedPartitions = new LongAdder();
+    private volatile LocalDateTime lastRunAt;
+    private volatile boolean partitionsActive;
+
+    /** 청크 하나를 처리하는 문장 (최대 limit 건 처리 후 처리 건수 반환) */
+    @FunctionalInterface
+    private interface ChunkStatement {
+        int apply(int limit);
+    }
+
+    /** 보관 정책 (이름, 설명, 청크 문장) */
+    private record RetentionPolicy(String name, String description, ChunkStatement statement) {
+    }
+
+    /** 정책별 실행 결과 (completed=false 면 남은 행을 다음 실행에서 이어서 처리) */
+    public record PolicyResult(String name, int affected, int chunks, boolean completed, long elapsedMs, String error) {
+    }
+
+    public DataRetentionService(KamcoItemMapper kamcoItemMapper,
+                                NewItemNotificationMapper notificationMapper,
+                                KamcoItemViewLogMapper viewLogMapper,
+                                KamcoItemStatsMapper statsMapper,
+                                PlatformTransactionManager transactionManager,
+                                SqlSessionFactory sqlSessionFactory,
+                                @Value("${retention.chunk-size:1000}") int chunkSize,
+                                @Value("${retention.pause-ms:100}") long pauseMs,
+                                @Value("${retention.max-chunks-per-run:500}") int maxChunksPerRun,
+                                @Value("${retention.new-flag-days:7}") int newFlagDays,
+                                @Value("${retention.notification-hide-days:30}") int notificationHideDays,
+                                @Value("${retention.view-log-days:30}") int viewLogDays,
+                                @Value("${retention.stats-days:90}") int statsDays,
+                                @Value("${retention.view-log-partitioned:false}") boolean viewLogPartitioned,
+                                @Value("${retention.view-log-precreate-months:2}") int precreateMonths) {
+        this.kamcoItemMapper = kamcoItemMapper;
+        this.notificationMapper = notificationMapper;
+        this.viewLogMapper = viewLogMapper;
+        this.statsMapper = statsMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.databaseId = sqlSessionFactory.getConfiguration().getDatabaseId();
+        this.chunkSize = Math.max(1, chunkSize);
+        this.pauseMs = Math.max(0, pauseMs);
+        this.maxChunksPerRun = Math.max(1, maxChunksPerRun);
+        this.newFlagDays = newFlagDays;
+        this.notificationHideDays = notificationHideDays;
+        this.viewLogDays = viewLogDays;
+        this.statsDays = statsDays;
+        this.viewLogPartitioned = viewLogPartitioned;
+        this.precreateMonths = Math.max(0, precreateMonths);
+    }
+
+    /**
+     * 기동 시 파티션 사용 여부 확인 후 이번 달부터의 파티션 미리 생성
+     * - 파티션 문장은 PostgreSQL 전용이므로 다른 DB 면 설정과 관계없이 행 단위 삭제만 사용
+     * - 파티션 테이블이 아니면(07 전환 전) 재기동 전까지 행 단위 삭제만 사용
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        if (!viewLogPartitioned) {
+            return;
+        }
+        if (!"postgresql".equals(databaseId)) {
+            log.info("ℹ️ 조회 이력 파티션 관리는 PostgreSQL 전용입니다 (databaseId={}). 행 단위 삭제로 동작합니다.", databaseId);
+            return;
+        }
+        try {
+            partitionsActive = viewLogMapper.isPartitioned();
+        } catch (Exception e) {
+            log.warn("⚠️ 조회 이력 파티션 여부 확인 실패 (행 단위 삭제로 동작): {}", e.getMessage());
+            return;
+        }
+        if (!partitionsActive) {
+            log.info("ℹ️ 조회 이력 테이블이 파티션 테이블이 아닙니다 (07_view_log_partition.sql 로 전환). 행 단위 삭제로 동작합니다.");
+            return;
+        }
+        if (runLock.tryLock()) {
+            try {
+                maintainViewLogPartitions(LocalDate.now());
+            } finally {
+                runLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 모든 보관 정책 실행 (동시에 한 번만)
+     */
+    public List<PolicyResult> runAll() {
+        if (!runLock.tryLock()) {
+            log.warn("⚠️ 보관 정책이 이미 실행 중입니다.");
+            return List.of();
+        }
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            if (partitionsActive) {
+                maintainViewLogPartitions(now.toLocalDate());
+            }
+
+            List<PolicyResult> results = new ArrayList<>();
+            for (RetentionPolicy policy : policies(now)) {
+                PolicyResult result = runPolicy(policy);
+                results.add(result);
+                lastResults.put(result.name(), result);
+            }
+            lastRunAt = now;
+            return results;
+        } finally {
+            runLock.unlock();
+        }
+    }
+
+    /**
+     * 설정된 보관 정책 목록 (보관 일수가 0 이하면 해당 정책 제외)
+     */
+    private List<RetentionPolicy> policies(LocalDateTime now) {
+        List<RetentionPolicy> policies = new ArrayList<>();
+        if (newFlagDays > 0) {
+            LocalDateTime cutoff = now.minusDays(newFlagDays);
+            policies.add(new RetentionPolicy(POLICY_NEW_FLAG, "신규 물건 플래그 해제",
+                    limit -> kamcoItemMapper.unmarkOldNewItems(cutoff, limit)));
+        }
+        policies.add(new RetentionPolicy(POLICY_EXPIRED_ITEMS, "종료된 물건 비활성화",
+                kamcoItemMapper::deactivateExpiredItems));
+        policies.add(new RetentionPolicy(POLICY_EXPIRED_NOTIFICATIONS, "만료된 공지사항 삭제",
+                notificationMapper::deleteExpired));
+        if (notificationHideDays > 0) {
+            LocalDateTime cutoff = now.minusDays(notificationHideDays);
+            policies.add(new RetentionPolicy(POLICY_HIDE_NOTIFICATIONS, "오래된 공지사항 숨김",
+                    limit -> notificationMapper.hideOldNotifications(cutoff, limit)));
+        }
+        if (viewLogDays > 0) {
+            LocalDateTime cutoff = now.minusDays(viewLogDays);
+            policies.add(new RetentionPolicy(POLICY_VIEW_LOG, "오래된 조회 이력 삭제",
+                    limit -> viewLogMapper.deleteOldLogs(cutoff, limit)));
+        }
+        if (statsDays > 0) {
+            LocalDate cutoff = now.toLocalDate().minusDays(statsDays);
+            policies.add(new RetentionPolicy(POLICY_STATS, "오래된 통계 삭제",
+                    limit -> statsMapper.deleteOldStats(cutoff, limit)));
+        }
+        return policies;
+    }
+
+    /**
+     * 정책 하나를 청크 단위로 실행 (청크마다 자동 커밋)
+     */
+    private PolicyResult runPolicy(RetentionPolicy policy) {
+        long start = System.currentTimeMillis();
+        int affected = 0;
+        int chunks = 0;
+        try {
+            while (chunks < maxChunksPerRun) {
+                int processed = policy.statement().apply(chunkSize);
+                chunks++;
+                affected += processed;
+                if (processed < chunkSize) {
+                    log.info("✅ [{}] {}: {}건 ({}청크, {}ms)", policy.name(), policy.description(),
+                            affected, chunks, System.currentTimeMillis() - start);
+                    return new PolicyResult(policy.name(), affected, chunks, true, System.currentTimeMillis() - start, null);
+                }
+                if (pauseMs > 0) {
+                    Thread.sleep(pauseMs);
+                }
+            }
+            // 1회 한도 도달 - 남은 행은 다음 실행에서 이어서 처리
+            log.warn("⏸️ [{}] {}: {}건 처리 후 1회 한도({}청크) 도달, 다음 실행에서 계속", policy.name(),
+                    policy.description(), affected, chunks);
+            return new PolicyResult(policy.name(), affected, chunks, false, System.currentTimeMillis() - start, null);
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new PolicyResult(policy.name(), affected, chunks, false, System.currentTimeMillis() - start, "중단됨");
+        } catch (Exception e) {
+            log.error("❌ [{}] {} 실패 ({}건 처리 후): {}", policy.name(), policy.description(), affected, e.getMessage());
+            return new PolicyResult(policy.name(), affected, chunks, false, System.currentTimeMillis() - start, e.getMessage());
+        }
+    }
+
+    /**
+     * 조회 이력 월별 파티션 관리 (PostgreSQL)
+     * - 이번 달부터 precreate-months 개월 뒤까지 없는 파티션을 미리 생성 (DEFAULT 파티션으로 행이 새지 않도록)
+     * - 마지막 날까지 보관 기간이 지난 달은 파티션째 DROP (경계 달에 남은 행은 view-log 정책이 청크 삭제)
+     * - 달마다 따로 처리해 한 달이 실패해도 나머지 생성/삭제는 계속
+     */
+    private void maintainViewLogPartitions(LocalDate today) {
+        Set<String> existing;
+        try {
+            existing = new HashSet<>(viewLogMapper.findPartitionNames());
+        } catch (Exception e) {
+            log.warn("⚠️ 조회 이력 파티션 목록 조회 실패 (행 단위 삭제로 계속): {}", e.getMessage());
+            return;
+        }
+
+        YearMonth current = YearMonth.from(today);
+        for (int i = 0; i <= precreateMonths; i++) {
+            YearMonth month = current.plusMonths(i);
+            String name = partitionName(month);
+            if (existing.contains(name)) {
+                continue;
+            }
+            try {
+                createPartition(month, name);
+            } catch (Exception e) {
+                log.warn("⚠️ 조회 이력 파티션 생성 실패: {} ({})", name, e.getMessage());
+            }
+        }
+
+        if (viewLogDays <= 0) {
+            return;
+        }
+        LocalDate cutoff = today.minusDays(viewLogDays);
+        for (String name : existing) {
+            Matcher matcher = VIEW_LOG_PARTITION.matcher(name);
+            if (!matcher.matches()) {
+                continue; // DEFAULT 파티션 등은 행 단위 삭제로 정리
+            }
+            YearMonth month = YearMonth.parse(matcher.group(1), PARTITION_MONTH);
+            if (month.plusMonths(1).atDay(1).isAfter(cutoff)) {
+                continue;
+            }
+            try {
+                viewLogMapper.dropPartition(name);
+                droppedPartitions.increment();
+                log.info("🧹 조회 이력 파티션 삭제: {}", name);
+            } catch (Exception e) {
+                log.warn("⚠️ 조회 이력 파티션 삭제 실패: {} ({})", name, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 월 파티션 생성 (한 트랜잭션)
+     * - PostgreSQL 은 DEFAULT 파티션에 그 달 행이 있으면 생성을 거부하므로,
+     *   임시 테이블로 옮기고 DEFAULT 에서 지운 뒤 파티션을 만들고 다시 넣음
+     */
+    private void createPartition(YearMonth month, String name) {
+        String from = month.atDay(1).toString();
+        String to = month.plusMonths(1).atDay(1).toString();
+        transactionTemplate.executeWithoutResult(status -> {
+            long stray = viewLogMapper.countDefaultRows(from, to);
+            if (stray > 0) {
+                viewLogMapper.stashDefaultRows(from, to);
+                viewLogMapper.deleteDefaultRows(from, to);
+            }
+            viewLogMapper.createPartition(name, from, to);
+            if (stray > 0) {
+                int moved = viewLogMapper.restoreStashedRows();
+                log.info("🗂️ DEFAULT 파티션의 {} 조회 이력 {}건을 {} 로 이동", month, moved, name);
+            }
+        });
+        log.info("🗂️ 조회 이력 파티션 생성: {}", name);
+    }
+
+    private static String partitionName(YearMonth month) {
+        return VIEW_LOG_PARTITION_PREFIX + month.format(PARTITION_MONTH);
+    }
+
+    /**
+     * 보관 정책 메트릭
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("chunkSize", chunkSize);
+        stats.put("pauseMs", pauseMs);
+        stats.put("maxChunksPerRun", maxChunksPerRun);
+        stats.put("viewLogPartitioned", viewLogPartitioned);
+        stats.put("partitionsActive", partitionsActive);
+        stats.put("droppedPartitions", droppedPartitions.sum());
+        stats.put("lastRunAt", lastRunAt);
+        stats.put("policies", new ArrayList<>(lastResults.values()));
+        return stats;
+    }
+}
@@ -1,14 +1,12 @@
 package com.api.item.service;
 
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
-import com.api.item.domain.KamcoItem;
-import com.api.item.domain.NewItemNotification;
 import com.api.common.dto.ServiceResponse;
 
 import lombok.RequiredArgsConstructor;
@@ -19,28 +17,16 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class KamcoItemFacadeService {
 
-    private final NewItemNotificationService notificationService;
     private final KamcoItemService kamcoItemService;
     private final KamcoItemSyncScheduler syncScheduler;
 
-    public ServiceResponse<Map<String, Object>> buildMainDataResponse() {
-        Map<String, Object> result = new HashMap<>();
-
-        try {
-            List<NewItemNotification> newNotifications = notificationService.getNewItemNotifications(10);
-            List<KamcoItem> todayItems = kamcoItemService.getTodayClosingItems();
-
-            result.put("success", true);
-            result.put("newNotifications", newNotifications);
-            result.put("todayItems", todayItems);
-            return ServiceResponse.ok(result);
-
-        } catch (Exception e) {
-            log.error("메인 데이터 조회 실패", e);
-            result.put("success", false);
-            result.put("message", "데이터 조회에 실패했습니다.");
-            return ServiceResponse.of(HttpStatus.INTERNAL_SERVER_ERROR, result);
-        }
+    /**
+     * 50% 체감 피드가 오래됐으면 백그라운드 갱신 예약 (같은 시도 갱신이 진행 중이면 공유)
+     * @return 갱신이 진행 중이면 true
+     */
+    public boolean requestDiscount50Refresh(String sido) {
+        CompletableFuture<Integer> refresh = syncScheduler.refreshDiscount50IfStale(sido);
+        return refresh != null && !refresh.isCompletedExceptionally();
     }
 
     public ServiceResponse<Map<String, Object>> handleManualSync() {
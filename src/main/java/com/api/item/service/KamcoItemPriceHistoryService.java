@@ -0,0 +1,237 @@
+package com.api.item.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.api.item.domain.Item;
+import com.api.item.domain.KamcoItem;
+import com.api.item.domain.KamcoItemPriceHistory;
+import com.api.item.dto.ItemWithHistory;
+import com.api.item.mapper.KamcoItemMapper;
+import com.api.item.mapper.KamcoItemPriceHistoryMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 물건 가격 이력 저장소
+ * - 동기화로 저장되는 물건마다 (물건번호, 공매번호) 당 한 점을 기록 (이미 있는 회차는 최신 값으로 갱신)
+ * - 이력 화면은 활성 물건 목록 + 물건번호 IN 이력 조회 두 번으로 구성 (온비드 API 호출 없음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class KamcoItemPriceHistoryService {
+
+    private final KamcoItemMapper kamcoItemMapper;
+    private final KamcoItemPriceHistoryMapper priceHistoryMapper;
+    private final PlatformTransactionManager transactionManager;
+
+    // 다중 행 INSERT 한 문장에 담을 최대 행 수 (PostgreSQL 바인드 파라미터 한도 고려)
+    private static final int INSERT_CHUNK = 500;
+
+    // 이력 화면 한 번에 보여줄 최대 물건 수
+    private static final int HISTORY_LIST_LIMIT = 1000;
+
+    /**
+     * 저장된 물건의 현재 회차를 가격 이력에 추가/갱신 (호출한 저장 트랜잭션에 참여)
+     * - 청크마다 세이브포인트(NESTED)에서 실행: 이력 기록이 실패해도 되돌린 뒤 물건 저장은 그대로 커밋
+     * @param items 실제로 저장된 물건만 전달
+     * @return 추가/갱신된 행 수 (드라이버 영향 행 수 기준)
+     */
+    @Transactional
+    public int recordPoints(List<KamcoItem> items) {
+        TransactionTemplate savepoint = new TransactionTemplate(transactionManager);
+        savepoint.setPropagationBehavior(TransactionDefinition.PROPAGATION_NESTED);
+
+        List<KamcoItemPriceHistory> points = new ArrayList<>(items.size());
+        for (KamcoItem item : items) {
+            if (item.getPbctNo() != null && !item.getPbctNo().isBlank()) {
+                points.add(toPoint(item));
+            }
+        }
+
+        int recorded = 0;
+        for (int from = 0; from < points.size(); from += INSERT_CHUNK) {
+            List<KamcoItemPriceHistory> chunk = points.subList(from, Math.min(from + INSERT_CHUNK, points.size()));
+            try {
+                recorded += savepoint.execute(status -> priceHistoryMapper.insertOrUpdateBatch(chunk));
+            } catch (Exception e) {
+                log.error("❌ 가격 이력 기록 실패: {}개, 오류: {}", chunk.size(), e.getMessage());
+            }
+        }
+        if (recorded > 0) {
+            log.info("📈 가격 이력 기록: {}개 회차 추가/갱신", recorded);
+        }
+        return recorded;
+    }
+
+    /**
+     * 물건 하나의 가격 이력 (입찰시작일시 오름차순)
+     */
+    public List<KamcoItemPriceHistory> getHistory(String cltrNo) {
+        return priceHistoryMapper.findByCltrNo(cltrNo);
+    }
+
+    /**
+     * 카테고리(화면그룹코드)별 물건 + 가격 이력 ("all" 또는 빈 값이면 전체)
+     */
+    public List<ItemWithHistory> getItemsWithHistory(String category) {
+        String scrnGrpCd = category == null || category.isEmpty() || "all".equals(category) ? null : category;
+        List<KamcoItem> items = kamcoItemMapper.findActiveForHistory(scrnGrpCd, HISTORY_LIST_LIMIT);
+        if (items.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<String> cltrNos = new ArrayList<>(items.size());
+        for (KamcoItem item : items) {
+            cltrNos.add(item.getCltrNo());
+        }
+
+        // 물건번호, 입찰시작일시 순으로 정렬돼 오므로 한 번 훑으며 묶음
+        Map<String, List<KamcoItemPriceHistory>> pointsByCltrNo = new HashMap<>();
+        for (KamcoItemPriceHistory point : priceHistoryMapper.findByCltrNos(cltrNos)) {
+            pointsByCltrNo.computeIfAbsent(point.getCltrNo(), key -> new ArrayList<>()).add(point);
+        }
+
+        List<ItemWithHistory> result = new ArrayList<>(items.size());
+        for (KamcoItem item : items) {
+            result.add(buildHistory(toItem(item), pointsByCltrNo.getOrDefault(item.getCltrNo(), List.of())));
+        }
+
+        log.info("✅ 물건별 이력 조회 완료: {}개 물건", result.size());
+        return result;
+    }
+
+    /**
+     * 최신 회차 + 저장된 이력으로 물건 이력 구성
+     * - 과거 이력 = 최신 회차(공매번호)를 제외한 저장된 회차 (오래된 순서대로)
+     * - 최초 감정가 = 가장 오래된 회차의 감정가 (이력이 없으면 최신 회차 값)
+     */
+    public ItemWithHistory buildHistory(Item latest, List<KamcoItemPriceHistory> points) {
+        ItemWithHistory history = new ItemWithHistory();
+        history.setCltrNo(latest.getCltrNo() != null ? latest.getCltrNo() : latest.getCltrMnmtNo());
+        history.setCltrMnmtNo(latest.getCltrMnmtNo());
+        history.setCltrNm(latest.getCltrNm());
+        history.setCtgrFullNm(latest.getCtgrFullNm());
+        history.setGoodsNm(latest.getGoodsNm());
+        history.setLdnmAdrs(latest.getLdnmAdrs());
+        history.setNmrdAdrs(latest.getNmrdAdrs());
+        history.setLatest(latest);
+
+        List<Item> past = new ArrayList<>(points.size());
+        KamcoItemPriceHistory latestPoint = null;
+        for (KamcoItemPriceHistory point : points) {
+            if (Objects.equals(point.getPbctNo(), latest.getPbctNo())) {
+                latestPoint = point;
+            } else {
+                past.add(toItem(point, latest));
+            }
+        }
+        history.setPast(past);
+        history.setTotalBidCount(past.size() + 1);
+
+        Long firstPrice = points.isEmpty() ? latest.getApslAsesAvgAmt() : points.get(0).getApslAsesAvgAmt();
+        Long currentPrice = latest.getMinBidPrc();
+        history.setFirstPrice(firstPrice);
+        history.setCurrentPrice(currentPrice);
+
+        // 감정가가 그대로면 기록 시 계산해 둔 하락률 사용
+        if (latestPoint != null && latestPoint.getDropRate() != null
+                && Objects.equals(latestPoint.getApslAsesAvgAmt(), firstPrice)
+                && Objects.equals(latestPoint.getMinBidPrc(), currentPrice)) {
+            history.setPriceDropRate(latestPoint.getDropRate());
+        } else {
+            history.setPriceDropRate(dropRate(firstPrice, currentPrice));
+        }
+        return history;
+    }
+
+    /**
+     * 감정가 대비 하락률 (%, 소수 둘째 자리)
+     */
+    static Double dropRate(Long basePrice, Long price) {
+        if (basePrice == null || price == null || basePrice <= 0) {
+            return null;
+        }
+        double rate = ((basePrice - price) * 100.0) / basePrice;
+        return Math.round(rate * 100.0) / 100.0;
+    }
+
+    private KamcoItemPriceHistory toPoint(KamcoItem item) {
+        KamcoItemPriceHistory point = new KamcoItemPriceHistory();
+        point.setCltrNo(item.getCltrNo());
+        point.setPbctNo(item.getPbctNo());
+        point.setCltrHstrNo(item.getCltrHstrNo());
+        point.setPbctBegnDtm(item.getPbctBegnDtm());
+        point.setPbctClsDtm(item.getPbctClsDtm());
+        point.setMinBidPrc(item.getMinBidPrc());
+        point.setApslAsesAvgAmt(item.getApslAsesAvgAmt());
+        point.setDropRate(dropRate(item.getApslAsesAvgAmt(), item.getMinBidPrc()));
+        point.setUscbCnt(item.getUscbCnt());
+        return point;
+    }
+
+    /**
+     * 과거 회차 → Item (회차별 값 + 최신 회차의 공통 정보)
+     */
+    private Item toItem(KamcoItemPriceHistory point, Item latest) {
+        Item item = new Item();
+        item.setCltrNo(point.getCltrNo());
+        item.setCltrMnmtNo(latest.getCltrMnmtNo());
+        item.setCltrNm(latest.getCltrNm());
+        item.setPbctNo(point.getPbctNo());
+        item.setCltrHstrNo(point.getCltrHstrNo());
+        item.setPbctBegnDtm(point.getPbctBegnDtm());
+        item.setPbctClsDtm(point.getPbctClsDtm());
+        item.setMinBidPrc(point.getMinBidPrc());
+        item.setApslAsesAvgAmt(point.getApslAsesAvgAmt());
+        item.setUscbCnt(point.getUscbCnt());
+        return item;
+    }
+
+    private Item toItem(KamcoItem kamcoItem) {
+        Item item = new Item();
+        item.setPlnmNo(kamcoItem.getPlnmNo());
+        item.setPbctNo(kamcoItem.getPbctNo());
+        item.setOrgBaseNo(kamcoItem.getOrgBaseNo());
+        item.setOrgNm(kamcoItem.getOrgNm());
+        item.setCltrNo(kamcoItem.getCltrNo());
+        item.setPbctCdtnNo(kamcoItem.getPbctCdtnNo());
+        item.setCltrHstrNo(kamcoItem.getCltrHstrNo());
+        item.setScrnGrpCd(kamcoItem.getScrnGrpCd());
+        item.setCtgrId(kamcoItem.getCtgrId());
+        item.setCtgrFullNm(kamcoItem.getCtgrFullNm());
+        item.setBidMnmtNo(kamcoItem.getBidMnmtNo());
+        item.setCltrNm(kamcoItem.getCltrNm());
+        item.setCltrMnmtNo(kamcoItem.getCltrMnmtNo());
+        item.setGoodsNm(kamcoItem.getGoodsNm());
+        item.setManf(kamcoItem.getManf());
+        item.setLdnmAdrs(kamcoItem.getLdnmAdrs());
+        item.setNmrdAdrs(kamcoItem.getNmrdAdrs());
+        item.setRodNm(kamcoItem.getRodNm());
+        item.setBldNo(kamcoItem.getBldNo());
+        item.setDpslMtdCd(kamcoItem.getDpslMtdCd());
+        item.setDpslMtdNm(kamcoItem.getDpslMtdNm());
+        item.setBidMtdNm(kamcoItem.getBidMtdNm());
+        item.setMinBidPrc(kamcoItem.getMinBidPrc());
+        item.setApslAsesAvgAmt(kamcoItem.getApslAsesAvgAmt());
+        item.setFeeRate(kamcoItem.getFeeRate());
+        item.setPbctBegnDtm(kamcoItem.getPbctBegnDtm());
+        item.setPbctClsDtm(kamcoItem.getPbctClsDtm());
+        item.setPbctCltrStatNm(kamcoItem.getPbctCltrStatNm());
+        item.setUscbCnt(kamcoItem.getUscbCnt());
+        item.setIqryCnt(kamcoItem.getIqryCnt());
+        return item;
+    }
+}
@@ -0,0 +1,194 @@
+package com.api.item.service;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 물건 목록 조회용 인메모리 읽기 캐시 (Read Model)
+ * - 동기화/관리자 쓰기 커밋 시 버전을 올려 전체 무효화
+ * - 최대 항목 수(LRU) + TTL 로 크기/신선도 제한 (당일 마감 등 시간 의존 쿼리 대비)
+ * - hit/miss/eviction 메트릭 제공 (/api/admin/metrics/read-cache)
+ * - 데이터 버전 + TTL 구간으로 조건부 GET 용 ETag/Last-Modified 제공
+ */
+@Slf4j
+@Component
+public class KamcoItemReadCache {
+
+    private final int maxEntries;
+    private final long ttlMillis;
+
+    private final AtomicLong version = new AtomicLong(1);
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<String, Entry> entries;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    private volatile long lastInvalidatedAt = System.currentTimeMillis();
+
+    // 재기동하면 버전이 1부터 다시 시작하므로 ETag 에 기동 시각을 함께 넣어 구분
+    private final String bootId = Long.toString(lastInvalidatedAt, 36);
+
+    private record Entry(long version, long loadedAt, Object value) {
+    }
+
+    public KamcoItemReadCache(
+            @Value("${kamco.read-cache.max-entries:256}") int maxEntries,
+            @Value("${kamco.read-cache.ttl-seconds:600}") long ttlSeconds) {
+        this.maxEntries = Math.max(1, maxEntries);
+        this.ttlMillis = ttlSeconds * 1000L;
+        // access-order LinkedHashMap = LRU
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                if (size() > KamcoItemReadCache.this.maxEntries) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * 캐시 조회 (없거나 이전 버전/만료면 loader 로 적재)
+     * - loader 는 락 밖에서 실행 (DB 조회 중 다른 키 조회를 막지 않음)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String key, Supplier<T> loader) {
+        long currentVersion = version.get();
+        long now = System.currentTimeMillis();
+
+        lock.lock();
+        try {
+            Entry entry = entries.get(key);
+            if (entry != null && entry.version() == currentVersion && !isExpired(entry, now)) {
+                hits.increment();
+                return (T) entry.value();
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        misses.increment();
+        T value = loader.get();
+
+        lock.lock();
+        try {
+            // 적재 중에 무효화되었다면 오래된 값은 저장하지 않음
+            if (version.get() == currentVersion) {
+                entries.put(key, new Entry(currentVersion, now, value));
+            }
+        } finally {
+            lock.unlock();
+        }
+        return value;
+    }
+
+    /**
+     * 즉시 전체 무효화 (버전 증가)
+     */
+    public void invalidate(String reason) {
+        long newVersion = version.incrementAndGet();
+        lock.lock();
+        try {
+            entries.clear();
+        } finally {
+            lock.unlock();
+        }
+        invalidations.increment();
+        lastInvalidatedAt = System.currentTimeMillis();
+        log.debug("🔄 읽기 캐시 무효화: version={}, 사유={}", newVersion, reason);
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 후 무효화 (트랜잭션이 없으면 즉시)
+     */
+    public void invalidateAfterCommit(String reason) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate(reason);
+                }
+            });
+        } else {
+            invalidate(reason);
+        }
+    }
+
+    /**
+     * 데이터 버전 (동기화/쓰기 커밋마다 증가)
+     */
+    public long getVersion() {
+        return version.get();
+    }
+
+    public long getLastInvalidatedAt() {
+        return lastInvalidatedAt;
+    }
+
+    /**
+     * 조건부 GET 용 약한 ETag (기동 ID + 데이터 버전 + TTL 구간)
+     * - TTL 구간이 바뀌면 태그도 바뀌어, 클라이언트 사본도 캐시 항목과 같은 주기로 다시 받음
+     * - 강한 ETag 가 붙은 응답은 Tomcat 이 압축하지 않으므로 W/ 로 발급 (If-None-Match 는 약한 비교)
+     */
+    public String currentETag(long now) {
+        return "W/\"" + bootId + "-" + version.get() + "-" + ttlBucket(now) + "\"";
+    }
+
+    /**
+     * 조건부 GET 용 Last-Modified (마지막 동기화/쓰기 커밋 시각과 현재 TTL 구간 시작 중 늦은 값)
+     */
+    public long currentLastModified(long now) {
+        return Math.max(lastInvalidatedAt, ttlBucket(now) * ttlMillis);
+    }
+
+    private long ttlBucket(long now) {
+        return ttlMillis > 0 ? now / ttlMillis : 0;
+    }
+
+    /**
+     * 캐시 메트릭
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        long total = hitCount + missCount;
+        int size;
+        lock.lock();
+        try {
+            size = entries.size();
+        } finally {
+            lock.unlock();
+        }
+        stats.put("version", version.get());
+        stats.put("size", size);
+        stats.put("maxEntries", maxEntries);
+        stats.put("hits", hitCount);
+        stats.put("misses", missCount);
+        stats.put("hitRate", total == 0 ? 0.0 : (double) hitCount / total);
+        stats.put("evictions", evictions.sum());
+        stats.put("invalidations", invalidations.sum());
+        return stats;
+    }
+
+    private boolean isExpired(Entry entry, long now) {
+        return ttlMillis > 0 && now - entry.loadedAt() > ttlMillis;
+    }
+}
@@ -0,0 +1,487 @@
+package com.api.item.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.api.item.domain.KamcoItem;
+import com.api.item.mapper.KamcoItemMapper;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 물건 검색용 인메모리 역색인 (물건명 + 지번/도로명 주소)
+ * - 필드별 원문(소문자) 바이그램(2-gram) 토큰 - 공백/기호도 그대로 포함
+ * - 후보는 포스팅 교집합으로 좁히고 필드별 원문 포함 여부로 최종 확인
+ *   (검색어 전체를 한 덩어리로 보는 LIKE '%kw%' 와 같은 일치 집합, 대소문자 무시)
+ * - 점수: 물건명 일치 > 주소 일치, 단어 접두/완전 일치 가산, 동점이면 최신 등록 순 (DB 검색은 최신 순)
+ * - 한 글자 검색어는 바이그램으로 찾을 수 없어 색인 대상이 아님 (canServe = false → DB 검색)
+ * - 기동 시 DB 전체 적재, 이후 저장 커밋마다 변경된 물건만 재적재 (전용 단일 스레드)
+ * - 색인 준비 전에는 KamcoItemService.search 가 DB 검색으로 대체
+ * - 색인은 물건번호와 검색/정렬 필드만 보관하고, 검색 결과 행은 KamcoItemService 가 DB 에서 다시 읽음
+ *   (조회수·가격 등 자주 바뀌는 값이 다음 재색인까지 오래된 값으로 나가지 않도록)
+ */
+@Slf4j
+@Component
+public class KamcoItemSearchIndex {
+
+    private static final int NAME_WEIGHT = 3;
+    private static final int ADDRESS_WEIGHT = 1;
+    private static final int PREFIX_BONUS = 1;
+    private static final int EXACT_WORD_BONUS = 1;
+    /** 삭제 표시된 문서가 이 비율을 넘으면 메모리 내 재색인 */
+    private static final double COMPACT_RATIO = 0.3;
+
+    private final KamcoItemMapper kamcoItemMapper;
+    private final boolean enabled;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ExecutorService updater = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "kamco-search-index");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // lock 으로 보호
+    private final List<Doc> docs = new ArrayList<>();
+    private final Map<String, Integer> docIdByCltrNo = new HashMap<>();
+    private final Map<String, Postings> postings = new HashMap<>();
+    private int tombstones;
+
+    private volatile boolean ready;
+    private volatile LocalDateTime lastBuiltAt;
+    private final LongAdder searches = new LongAdder();
+    private final LongAdder incrementalUpdates = new LongAdder();
+
+    /** 색인 문서 (물건번호 + 정렬용 등록일 + 소문자 원문 필드 + 점수용 정규화 단어) */
+    private record Doc(String cltrNo, LocalDateTime createdDate, String name, String lotAddress, String roadAddress,
+                       List<String> words) {
+    }
+
+    private record Hit(Doc doc, int docId, int score) {
+    }
+
+    /** 문서 id 오름차순 정수 포스팅 (append-only) */
+    private static final class Postings {
+        private int[] ids = new int[4];
+        private int size;
+
+        void add(int docId) {
+            if (size > 0 && ids[size - 1] == docId) {
+                return;
+            }
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = docId;
+        }
+    }
+
+    public KamcoItemSearchIndex(KamcoItemMapper kamcoItemMapper,
+                                @Value("${kamco.search-index.enabled:true}") boolean enabled) {
+        this.kamcoItemMapper = kamcoItemMapper;
+        this.enabled = enabled;
+    }
+
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    /**
+     * 색인으로 처리할 수 있는 검색어인지 (바이그램이 하나 이상 나와야 함)
+     */
+    public static boolean canServe(String keyword) {
+        return keyword != null && keyword.length() >= 2;
+    }
+
+    // =============================================================================
+    // 색인 적재
+    // =============================================================================
+
+    /**
+     * 기동 완료 후 백그라운드로 전체 색인
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        if (enabled) {
+            rebuildAsync("startup");
+        }
+    }
+
+    /**
+     * DB 전체 재색인 (비동기)
+     */
+    public void rebuildAsync(String reason) {
+        if (!enabled) {
+            return;
+        }
+        updater.execute(() -> rebuild(reason));
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 후 전체 재색인 (삭제/비활성화 등)
+     */
+    public void rebuildAfterCommit(String reason) {
+        afterCommit(() -> rebuildAsync(reason));
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 후 해당 물건들만 DB에서 다시 읽어 색인 갱신
+     * - id/created_date 등 DB가 채우는 값까지 반영하기 위해 커밋된 행을 재조회
+     */
+    public void refreshAfterCommit(Collection<String> cltrNos) {
+        if (!enabled || cltrNos == null || cltrNos.isEmpty()) {
+            return;
+        }
+        List<String> targets = List.copyOf(new LinkedHashSet<>(cltrNos));
+        afterCommit(() -> updater.execute(() -> refresh(targets)));
+    }
+
+    private void rebuild(String reason) {
+        long start = System.currentTimeMillis();
+        try {
+            List<KamcoItem> items = kamcoItemMapper.findAll();
+            lock.writeLock().lock();
+            try {
+                docs.clear();
+                docIdByCltrNo.clear();
+                postings.clear();
+                tombstones = 0;
+                for (KamcoItem item : items) {
+                    addDoc(item);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+            ready = true;
+            lastBuiltAt = LocalDateTime.now();
+            log.info("🔎 검색 색인 구축 완료: {}건, 토큰 {}개, 사유={}, 소요={}ms",
+                    items.size(), postings.size(), reason, System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("❌ 검색 색인 구축 실패 (DB 검색으로 대체): {}", e.getMessage(), e);
+        }
+    }
+
+    private void refresh(List<String> cltrNos) {
+        if (!ready) {
+            return; // 전체 색인 전이면 전체 구축 시 반영됨
+        }
+        try {
+            List<KamcoItem> rows = kamcoItemMapper.findByCltrNos(cltrNos);
+            Map<String, KamcoItem> byCltrNo = new HashMap<>();
+            for (KamcoItem row : rows) {
+                byCltrNo.put(row.getCltrNo(), row);
+            }
+            lock.writeLock().lock();
+            try {
+                for (String cltrNo : cltrNos) {
+                    removeDoc(cltrNo);
+                    KamcoItem row = byCltrNo.get(cltrNo);
+                    if (row != null && !Boolean.FALSE.equals(row.getIsActive())) {
+                        addDoc(row);
+                    }
+                }
+                if (tombstones > 1000 && tombstones > docs.size() * COMPACT_RATIO) {
+                    compact();
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+            incrementalUpdates.add(cltrNos.size());
+        } catch (Exception e) {
+            log.warn("⚠️ 검색 색인 증분 갱신 실패 - 전체 재색인 예약: {}", e.getMessage());
+            rebuildAsync("refresh-failed");
+        }
+    }
+
+    /** lock(write) 보유 상태에서 호출 */
+    private void addDoc(KamcoItem item) {
+        if (item.getCltrNo() == null) {
+            return;
+        }
+        String name = lower(item.getCltrNm());
+        String lotAddress = lower(item.getLdnmAdrs());
+        String roadAddress = lower(item.getNmrdAdrs());
+        List<String> words = new ArrayList<>();
+        for (String word : normalize(name + " " + lotAddress + " " + roadAddress).split(" ")) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+
+        indexDoc(new Doc(item.getCltrNo(), item.getCreatedDate(), name, lotAddress, roadAddress, words));
+    }
+
+    /** lock(write) 보유 상태에서 호출 */
+    private void indexDoc(Doc doc) {
+        int docId = docs.size();
+        docs.add(doc);
+        docIdByCltrNo.put(doc.cltrNo(), docId);
+
+        Set<String> tokens = new LinkedHashSet<>();
+        addBigrams(doc.name(), tokens);
+        addBigrams(doc.lotAddress(), tokens);
+        addBigrams(doc.roadAddress(), tokens);
+        for (String token : tokens) {
+            postings.computeIfAbsent(token, key -> new Postings()).add(docId);
+        }
+    }
+
+    /** lock(write) 보유 상태에서 호출 - 포스팅은 그대로 두고 문서만 삭제 표시 */
+    private void removeDoc(String cltrNo) {
+        Integer docId = docIdByCltrNo.remove(cltrNo);
+        if (docId != null) {
+            docs.set(docId, null);
+            tombstones++;
+        }
+    }
+
+    /** lock(write) 보유 상태에서 호출 - 살아있는 문서만으로 포스팅 재구성 (DB 조회 없음) */
+    private void compact() {
+        List<Doc> live = new ArrayList<>(docIdByCltrNo.size());
+        for (Doc doc : docs) {
+            if (doc != null) {
+                live.add(doc);
+            }
+        }
+        docs.clear();
+        docIdByCltrNo.clear();
+        postings.clear();
+        tombstones = 0;
+        for (Doc doc : live) {
+            indexDoc(doc);
+        }
+        log.info("🔎 검색 색인 압축 완료: {}건", live.size());
+    }
+
+    // =============================================================================
+    // 검색
+    // =============================================================================
+
+    /**
+     * 검색 (검색어 전체를 물건명/지번 주소/도로명 주소 중 하나에 포함하는 물건, 점수 내림차순)
+     * - canServe(keyword) 가 아니면 빈 목록 (호출 측에서 DB 검색으로 대체)
+     * @return 물건번호 목록 (행은 호출 측에서 DB 조회)
+     */
+    public List<String> search(String keyword, int limit) {
+        searches.increment();
+        if (!canServe(keyword) || limit <= 0) {
+            return List.of();
+        }
+        String term = lower(keyword);
+        String word = normalize(term);
+
+        Comparator<Hit> ranking = Comparator.comparingInt(Hit::score)
+                .thenComparing(hit -> hit.doc().createdDate(),
+                        Comparator.nullsFirst(Comparator.naturalOrder()))
+                .thenComparingInt(Hit::docId);
+        PriorityQueue<Hit> top = new PriorityQueue<>(limit + 1, ranking);
+
+        lock.readLock().lock();
+        try {
+            int[] candidates = candidates(term);
+            if (candidates == null) {
+                return List.of();
+            }
+            for (int docId : candidates) {
+                Doc doc = docs.get(docId);
+                if (doc == null) {
+                    continue;
+                }
+                int score = score(doc, term, word);
+                if (score > 0) {
+                    top.offer(new Hit(doc, docId, score));
+                    if (top.size() > limit) {
+                        top.poll();
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<String> result = new ArrayList<>(top.size());
+        while (!top.isEmpty()) {
+            result.add(top.poll().doc().cltrNo());
+        }
+        Collections.reverse(result);
+        return result;
+    }
+
+    /** 검색어 바이그램 포스팅의 교집합 (가장 짧은 포스팅부터) */
+    private int[] candidates(String term) {
+        Set<String> tokens = new LinkedHashSet<>();
+        addBigrams(term, tokens);
+        List<Postings> lists = new ArrayList<>(tokens.size());
+        for (String token : tokens) {
+            Postings list = postings.get(token);
+            if (list == null) {
+                return null;
+            }
+            lists.add(list);
+        }
+        lists.sort(Comparator.comparingInt(list -> list.size));
+
+        Postings first = lists.get(0);
+        int[] result = Arrays.copyOf(first.ids, first.size);
+        for (int i = 1; i < lists.size() && result.length > 0; i++) {
+            result = intersect(result, lists.get(i));
+        }
+        return result;
+    }
+
+    private static int[] intersect(int[] left, Postings right) {
+        int[] out = new int[Math.min(left.length, right.size)];
+        int i = 0;
+        int j = 0;
+        int n = 0;
+        while (i < left.length && j < right.size) {
+            int a = left[i];
+            int b = right.ids[j];
+            if (a == b) {
+                out[n++] = a;
+                i++;
+                j++;
+            } else if (a < b) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return Arrays.copyOf(out, n);
+    }
+
+    /**
+     * 후보 검증 + 점수 (어느 필드에도 없으면 0)
+     * @param term 소문자 검색어 (포함 여부 확인용)
+     * @param word 정규화된 검색어 (한 단어일 때만 단어 접두/완전 일치 가산)
+     */
+    private static int score(Doc doc, String term, String word) {
+        int score = 0;
+        if (doc.name().contains(term)) {
+            score += NAME_WEIGHT;
+        }
+        if (doc.lotAddress().contains(term) || doc.roadAddress().contains(term)) {
+            score += ADDRESS_WEIGHT;
+        }
+        if (score > 0 && !word.isEmpty() && word.indexOf(' ') < 0) {
+            for (String docWord : doc.words()) {
+                if (docWord.equals(word)) {
+                    score += PREFIX_BONUS + EXACT_WORD_BONUS;
+                    break;
+                }
+                if (docWord.startsWith(word)) {
+                    score += PREFIX_BONUS;
+                    break;
+                }
+            }
+        }
+        return score;
+    }
+
+    // =============================================================================
+    // 토큰화
+    // =============================================================================
+
+    /**
+     * 점수용 단어 분리: 소문자화 + 글자/숫자 외 문자는 공백으로 (연속 공백 하나로)
+     */
+    static String normalize(String text) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder(text.length());
+        boolean space = true;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                sb.append(Character.toLowerCase(c));
+                space = false;
+            } else if (!space) {
+                sb.append(' ');
+                space = true;
+            }
+        }
+        int length = sb.length();
+        if (length > 0 && sb.charAt(length - 1) == ' ') {
+            sb.setLength(length - 1);
+        }
+        return sb.toString();
+    }
+
+    /** 바이그램 토큰 (원문 그대로 - 공백/기호 포함, 필드 경계는 넘지 않음) */
+    private static void addBigrams(String text, Set<String> tokens) {
+        for (int i = 0; i + 2 <= text.length(); i++) {
+            tokens.add(text.substring(i, i + 2));
+        }
+    }
+
+    private static String lower(String text) {
+        return text != null ? text.toLowerCase(Locale.ROOT) : "";
+    }
+
+    // =============================================================================
+    // 기타
+    // =============================================================================
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * 색인 메트릭
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            stats.put("documents", docIdByCltrNo.size());
+            stats.put("tokens", postings.size());
+            stats.put("tombstones", tombstones);
+        } finally {
+            lock.readLock().unlock();
+        }
+        stats.put("enabled", enabled);
+        stats.put("ready", ready);
+        stats.put("lastBuiltAt", lastBuiltAt);
+        stats.put("searches", searches.sum());
+        stats.put("incrementalUpdates", incrementalUpdates.sum());
+        return stats;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        updater.shutdownNow();
+    }
+}
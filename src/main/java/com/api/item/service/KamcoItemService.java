@@ -1,17 +1,37 @@
 package com.api.item.service;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
+import org.apache.ibatis.cursor.Cursor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.api.common.dto.KeysetCursor;
+import com.api.common.dto.KeysetPage;
 import com.api.item.domain.KamcoItem;
-import com.api.item.domain.KamcoItemViewLog;
 import com.api.item.domain.Item;
+import com.api.item.domain.KamcoItemStats;
+import com.api.item.dto.KamcoItemCategoryCount;
+import com.api.item.dto.KamcoItemPageQuery;
+import com.api.item.dto.KamcoItemResponse;
 import com.api.item.mapper.KamcoItemMapper;
-import com.api.item.mapper.KamcoItemViewLogMapper;
+import com.api.item.mapper.KamcoItemStatsMapper;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -23,7 +43,15 @@ import lombok.extern.slf4j.Slf4j;
 public class KamcoItemService {
 
     private final KamcoItemMapper kamcoItemMapper;
-    private final KamcoItemViewLogMapper viewLogMapper;
+    private final KamcoItemReadCache readCache;
+    private final KamcoItemSearchIndex searchIndex;
+    private final KamcoItemViewCounter viewCounter;
+    private final KamcoItemStatsMapper statsMapper;
+    private final KamcoItemPriceHistoryService priceHistoryService;
+    private final PlatformTransactionManager transactionManager;
+
+    // 다중 행 UPSERT 한 문장에 담을 최대 행 수 (PostgreSQL 바인드 파라미터 한도 고려)
+    private static final int BATCH_UPSERT_CHUNK = 500;
 
     // =============================================================================
     // 조회 기능
@@ -100,12 +128,145 @@ public class KamcoItemService {
     }
     
     /**
-     * 검색
+     * 검색 (인메모리 색인, 색인 준비 전이거나 한 글자 검색어는 DB LIKE 검색)
+     * - 색인은 순서가 매겨진 물건번호만 돌려주고, 행은 DB 에서 읽어 최신 조회수/가격으로 응답
      */
     public List<KamcoItem> search(String keyword, int limit) {
+        if (searchIndex.isReady() && KamcoItemSearchIndex.canServe(keyword)) {
+            List<String> cltrNos = searchIndex.search(keyword, limit);
+            if (cltrNos.isEmpty()) {
+                return List.of();
+            }
+            Map<String, KamcoItem> rows = new HashMap<>();
+            for (KamcoItem row : kamcoItemMapper.findByCltrNos(cltrNos)) {
+                if (!Boolean.FALSE.equals(row.getIsActive())) {
+                    rows.put(row.getCltrNo(), row);
+                }
+            }
+            List<KamcoItem> result = new ArrayList<>(rows.size());
+            for (String cltrNo : cltrNos) {
+                KamcoItem row = rows.get(cltrNo);
+                if (row != null) {
+                    result.add(row);
+                }
+            }
+            return result;
+        }
         return kamcoItemMapper.searchByKeyword(keyword, limit);
     }
 
+    /**
+     * 키셋 페이지 조회 (created_date DESC, id DESC)
+     * - cursor 가 있으면 키셋으로 바로 다음 위치부터 조회 (테이블 크기와 무관)
+     * - cursor 없이 페이지 번호로 이동하면 DB OFFSET 으로 대체
+     * - created_date 가 없는 행은 (null, id) 커서로 이어감 (DB 마다 NULL 정렬 위치가 달라 매퍼에서 처리)
+     * - 50% 체감 목록은 유찰 횟수 DESC, 최저입찰가 ASC 순서를 유지하기 위해 커서 없이 OFFSET 만 사용 (대상 건수가 적음)
+     * - 잘못된 커서는 무시하고 페이지 번호로 조회
+     * - 전체 건수는 별도 COUNT 쿼리 (다음 동기화 커밋까지 캐시)
+     * @param filter 필터 조건 (sido/onlyNew/discount50)
+     * @param cursor 이전 페이지의 nextCursor (없으면 null)
+     * @param pageNum 커서가 없을 때 사용할 페이지 번호 (1부터)
+     * @param size 페이지 크기
+     */
+    public KeysetPage<KamcoItem> getItemPage(KamcoItemPageQuery filter, String cursor, int pageNum, int size) {
+        int pageSize = Math.max(1, size);
+        KeysetCursor position = filter.isDiscount50() ? null : decodeCursor(cursor);
+        
+        KamcoItemPageQuery query = filter.toBuilder()
+                .cursorCreatedDate(position != null ? position.sortKey() : null)
+                .cursorId(position != null ? position.id() : null)
+                .offset(position != null ? 0 : Math.max(0, pageNum - 1) * pageSize)
+                .limit(pageSize + 1)
+                .build();
+        
+        List<KamcoItem> rows = kamcoItemMapper.findPage(query);
+        boolean hasNext = rows.size() > pageSize;
+        String nextCursor = null;
+        if (hasNext) {
+            rows = rows.subList(0, pageSize);
+            if (!filter.isDiscount50()) {
+                KamcoItem last = rows.get(pageSize - 1);
+                nextCursor = new KeysetCursor(last.getCreatedDate(), last.getId()).encode();
+            }
+        }
+        
+        long totalCount = readCache.get("count:" + filter.filterKey(), () -> kamcoItemMapper.countPage(filter));
+        return new KeysetPage<>(rows, nextCursor, hasNext, totalCount);
+    }
+    
+    private static KeysetCursor decodeCursor(String cursor) {
+        try {
+            return KeysetCursor.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            log.debug("잘못된 페이지 커서 무시 (페이지 번호로 조회): {}", cursor);
+            return null;
+        }
+    }
+    
+    // =============================================================================
+    // 목록 API 응답 (읽기 캐시 - 동기화 커밋 시 무효화)
+    // =============================================================================
+    
+    /**
+     * 전체 물건 응답 목록
+     */
+    public List<KamcoItemResponse> getAllItemResponses() {
+        return readCache.get("all", () -> toResponses(kamcoItemMapper.findAll()));
+    }
+    
+    /**
+     * 신규 물건 응답 목록
+     */
+    public List<KamcoItemResponse> getNewItemResponses(int limit) {
+        return readCache.get("new:" + limit, () -> toResponses(kamcoItemMapper.findNewItems(limit)));
+    }
+    
+    /**
+     * 당일 매각 예정 물건 응답 목록
+     */
+    public List<KamcoItemResponse> getTodayClosingItemResponses() {
+        return readCache.get("today-closing", () -> toResponses(kamcoItemMapper.findTodayClosingItems()));
+    }
+    
+    /**
+     * 50% 체감 물건 응답 목록
+     */
+    public List<KamcoItemResponse> get50PercentDiscountItemResponses(int limit) {
+        return readCache.get("discount-50:" + limit, () -> toResponses(kamcoItemMapper.find50PercentDiscountItems(limit)));
+    }
+    
+    /**
+     * 시도별 물건 응답 목록
+     */
+    public List<KamcoItemResponse> getItemResponsesBySido(String sido) {
+        return readCache.get("sido:" + sido, () -> toResponses(kamcoItemMapper.findBySido(sido)));
+    }
+    
+    /**
+     * 용도별 물건 수 집계 (DB GROUP BY, 다음 동기화 커밋까지 캐시)
+     * @param sido 시도 (null/"all" 이면 전체)
+     * @param byDisposalMethod 처분방식까지 나눠 집계할지 여부
+     */
+    public List<KamcoItemCategoryCount> getCategoryCounts(String sido, boolean byDisposalMethod) {
+        String key = "category-counts:" + sido + ":" + byDisposalMethod;
+        return readCache.get(key, () -> List.copyOf(kamcoItemMapper.countByCategory(sido, byDisposalMethod)));
+    }
+    
+    /**
+     * 용도별 물건 수 (카테고리명 → 건수, 건수 내림차순)
+     */
+    public Map<String, Integer> getCategoryStats(String sido) {
+        Map<String, Integer> stats = new LinkedHashMap<>();
+        for (KamcoItemCategoryCount count : getCategoryCounts(sido, false)) {
+            stats.merge(count.getCtgrFullNm(), count.getItemCount().intValue(), Integer::sum);
+        }
+        return stats;
+    }
+    
+    private List<KamcoItemResponse> toResponses(List<KamcoItem> items) {
+        return items.stream().map(KamcoItemResponse::from).toList();
+    }
+
     // =============================================================================
     // 저장/업데이트 기능
     // =============================================================================
@@ -151,6 +312,8 @@ public class KamcoItemService {
             }
             
             kamcoItemMapper.insertOrUpdate(kamcoItem);
+            readCache.invalidateAfterCommit("saveFromApiItem");
+            searchIndex.refreshAfterCommit(List.of(kamcoItem.getCltrNo()));
             log.debug("✅ 물건 저장 성공: cltrNo={}", kamcoItem.getCltrNo());
             
         } catch (IllegalArgumentException e) {
@@ -192,6 +355,8 @@ public class KamcoItemService {
         }
         
         kamcoItemMapper.insertOrUpdate(kamcoItem);
+        readCache.invalidateAfterCommit("saveFromApiItemAndReturn");
+        searchIndex.refreshAfterCommit(List.of(kamcoItem.getCltrNo()));
         log.info("✅ [DB 저장 완료] INSERT/UPDATE 성공");
         
         // 저장 후 ID가 생성된 경우에만 재조회, 아니면 저장된 객체 반환
@@ -225,6 +390,8 @@ public class KamcoItemService {
             log.info("💾 DELETE FROM KNKamcoItem WHERE id={} 실행 중...", id);
             
             kamcoItemMapper.deleteById(id);
+            readCache.invalidateAfterCommit("deleteById");
+            searchIndex.rebuildAfterCommit("deleteById");
             
             log.info("✅ [Service] deleteById() 완료: 물건 삭제 성공");
             return true;
@@ -236,6 +403,9 @@ public class KamcoItemService {
     
     /**
      * Item 리스트를 KamcoItem으로 변환하여 일괄 저장
+     * - 건별 SELECT + UPSERT 대신 다중 VALUES UPSERT 한 문장으로 처리 (BATCH_UPSERT_CHUNK 단위)
+     * - 조회수/관심수/신규 플래그는 SQL에서 기존 값 유지
+     * - 현재 회차는 가격 이력에 추가 (이미 기록된 회차는 무시)
      */
     @Transactional
     public int saveBatchFromApiItems(List<Item> apiItems) {
@@ -244,47 +414,158 @@ public class KamcoItemService {
             return 0;
         }
         
-        int savedCount = 0;
-        int errorCount = 0;
+        log.info("📦 배치 저장 시작: 총 {}개", apiItems.size());
+        
         List<String> errorItems = new ArrayList<>();
+        List<KamcoItem> items = convertValidItems(apiItems, errorItems);
+        List<KamcoItem> saved = upsertInChunks(items, errorItems);
+        int savedCount = saved.size();
+        if (savedCount > 0) {
+            priceHistoryService.recordPoints(saved);
+            readCache.invalidateAfterCommit("saveBatchFromApiItems");
+            searchIndex.refreshAfterCommit(items.stream().map(KamcoItem::getCltrNo).toList());
+        }
         
-        log.info("📦 배치 저장 시작: 총 {}개", apiItems.size());
+        logBatchResult(savedCount, apiItems.size(), errorItems);
+        return savedCount;
+    }
+    
+    /**
+     * 증분 저장 - 내용 해시가 DB와 다른(신규/변경) 물건만 UPSERT
+     * - 변경 여부 확인은 물건번호 IN 조회 한 번으로 처리
+     * - 변경 없는 행은 DB 쓰기를 완전히 건너뜀 (가격/회차가 바뀌면 해시도 바뀌므로 변경분만 이력에 추가)
+     */
+    @Transactional
+    public DeltaResult saveChangedFromApiItems(List<Item> apiItems) {
+        if (apiItems == null || apiItems.isEmpty()) {
+            return new DeltaResult(0, 0, 0);
+        }
         
+        List<String> errorItems = new ArrayList<>();
+        List<KamcoItem> items = convertValidItems(apiItems, errorItems);
+        if (items.isEmpty()) {
+            logBatchResult(0, apiItems.size(), errorItems);
+            return new DeltaResult(apiItems.size(), 0, 0);
+        }
+        
+        // 1. 기존 해시 조회
+        List<String> cltrNos = new ArrayList<>(items.size());
+        for (KamcoItem item : items) {
+            cltrNos.add(item.getCltrNo());
+        }
+        Map<String, String> storedHashes = new HashMap<>();
+        for (KamcoItem stored : kamcoItemMapper.findContentHashesByCltrNos(cltrNos)) {
+            storedHashes.put(stored.getCltrNo(), stored.getContentHash());
+        }
+        
+        // 2. 신규/변경 물건만 선별
+        List<KamcoItem> changed = new ArrayList<>();
+        for (KamcoItem item : items) {
+            if (!item.getContentHash().equals(storedHashes.get(item.getCltrNo()))) {
+                changed.add(item);
+            }
+        }
+        
+        // 3. 변경분만 UPSERT
+        List<KamcoItem> saved = changed.isEmpty() ? List.of() : upsertInChunks(changed, errorItems);
+        int savedCount = saved.size();
+        if (savedCount > 0) {
+            priceHistoryService.recordPoints(saved);
+            readCache.invalidateAfterCommit("saveChangedFromApiItems");
+            searchIndex.refreshAfterCommit(changed.stream().map(KamcoItem::getCltrNo).toList());
+        }
+        
+        log.info("🔁 증분 저장: 전체 {}개 중 변경 {}개, 저장 {}개 (변경 없음 {}개 건너뜀)",
+            apiItems.size(), changed.size(), savedCount, items.size() - changed.size());
+        if (!errorItems.isEmpty()) {
+            log.warn("⚠️ 증분 저장 실패/건너뜀 {}건: {}", errorItems.size(),
+                String.join(", ", errorItems.subList(0, Math.min(10, errorItems.size()))));
+        }
+        return new DeltaResult(apiItems.size(), changed.size(), savedCount);
+    }
+    
+    /**
+     * 증분 저장 결과 (전체, 변경 감지, 저장 성공)
+     */
+    public record DeltaResult(int total, int changed, int saved) {
+    }
+    
+    /**
+     * 변환 + 검증 (같은 물건번호는 마지막 값만 유지 - PostgreSQL ON CONFLICT 제약)
+     */
+    private List<KamcoItem> convertValidItems(List<Item> apiItems, List<String> errorItems) {
+        Map<String, KamcoItem> uniqueItems = new LinkedHashMap<>();
         for (Item apiItem : apiItems) {
+            String cltrNo = apiItem != null && apiItem.getCltrNo() != null ? apiItem.getCltrNo().trim() : "";
+            if (cltrNo.isEmpty()) {
+                errorItems.add("unknown: 물건번호(cltrNo)가 필수입니다.");
+                log.warn("⚠️ 물건번호가 없는 데이터 건너뜀: {}", apiItem);
+                continue;
+            }
             try {
-                saveFromApiItem(apiItem);
-                savedCount++;
-                
-                // 100개마다 진행 상황 로그
-                if (savedCount % 100 == 0) {
-                    log.info("📊 진행 상황: {}개 저장 완료 / {}개", savedCount, apiItems.size());
-                }
-                
-            } catch (IllegalArgumentException e) {
-                // 검증 오류는 경고만
-                errorCount++;
-                String cltrNo = apiItem != null && apiItem.getCltrNo() != null ? apiItem.getCltrNo() : "unknown";
-                errorItems.add(cltrNo + ": " + e.getMessage());
-                log.warn("⚠️ 물건 저장 건너뜀: {}, 사유: {}", cltrNo, e.getMessage());
+                uniqueItems.put(cltrNo, convertToKamcoItem(apiItem));
             } catch (Exception e) {
-                errorCount++;
-                String cltrNo = apiItem != null && apiItem.getCltrNo() != null ? apiItem.getCltrNo() : "unknown";
                 errorItems.add(cltrNo + ": " + e.getMessage());
-                log.error("❌ 물건 저장 실패: {}, 오류: {}", cltrNo, e.getMessage());
+                log.warn("⚠️ 물건 변환 실패: {}, 사유: {}", cltrNo, e.getMessage());
             }
         }
+        return new ArrayList<>(uniqueItems.values());
+    }
+    
+    /**
+     * 청크 단위 다중 행 UPSERT
+     * - 청크마다 세이브포인트(NESTED)에서 실행: PostgreSQL 은 실패한 문장이 트랜잭션 전체를 중단시키므로
+     *   세이브포인트로 되돌려 이후 청크와 커밋이 정상 진행되도록 함
+     * - 실패한 청크는 행 단위로 다시 시도해 문제 행만 건너뜀 (같은 청크의 다른 행은 저장)
+     * - 물건번호 오름차순으로 정렬해 저장: 동시에 도는 동기화 샤드가 겹치는 물건을 API 순서대로 잠그면
+     *   서로 반대 순서로 행 잠금을 기다리는 교착이 생길 수 있으므로 모든 트랜잭션이 같은 순서로 잠금
+     * @return 실제로 저장된 행 (가격 이력은 이 행만 기록)
+     */
+    private List<KamcoItem> upsertInChunks(List<KamcoItem> items, List<String> errorItems) {
+        TransactionTemplate savepoint = new TransactionTemplate(transactionManager);
+        savepoint.setPropagationBehavior(TransactionDefinition.PROPAGATION_NESTED);
         
-        log.info("✅ 배치 저장 완료: {}개 성공 / {}개 전체 (실패: {}개)", 
-            savedCount, apiItems.size(), errorCount);
+        items = new ArrayList<>(items);
+        items.sort(Comparator.comparing(KamcoItem::getCltrNo));
+        
+        List<KamcoItem> saved = new ArrayList<>(items.size());
+        for (int from = 0; from < items.size(); from += BATCH_UPSERT_CHUNK) {
+            List<KamcoItem> chunk = items.subList(from, Math.min(from + BATCH_UPSERT_CHUNK, items.size()));
+            try {
+                savepoint.executeWithoutResult(status -> kamcoItemMapper.insertOrUpdateBatch(chunk));
+                saved.addAll(chunk);
+            } catch (Exception e) {
+                log.warn("⚠️ 배치 저장 실패, 행 단위로 재시도: {}개, 오류: {}", chunk.size(), e.getMessage());
+                upsertOneByOne(savepoint, chunk, saved, errorItems);
+            }
+        }
+        return saved;
+    }
+    
+    private void upsertOneByOne(TransactionTemplate savepoint, List<KamcoItem> chunk, List<KamcoItem> saved,
+                                List<String> errorItems) {
+        for (KamcoItem item : chunk) {
+            try {
+                savepoint.executeWithoutResult(status -> kamcoItemMapper.insertOrUpdateBatch(List.of(item)));
+                saved.add(item);
+            } catch (Exception e) {
+                errorItems.add(item.getCltrNo() + ": " + e.getMessage());
+                log.error("❌ 물건 저장 실패: {}, 오류: {}", item.getCltrNo(), e.getMessage());
+            }
+        }
+    }
+    
+    private void logBatchResult(int savedCount, int totalCount, List<String> errorItems) {
+        int errorCount = totalCount - savedCount;
+        log.info("✅ 배치 저장 완료: {}개 성공 / {}개 전체 (실패/중복: {}개)", 
+            savedCount, totalCount, errorCount);
         
-        if (errorCount > 0 && errorCount <= 10) {
+        if (!errorItems.isEmpty() && errorItems.size() <= 10) {
             log.warn("⚠️ 실패한 물건 목록: {}", String.join(", ", errorItems));
-        } else if (errorCount > 10) {
+        } else if (errorItems.size() > 10) {
             log.warn("⚠️ 실패한 물건이 너무 많습니다 ({}개). 처음 10개만 표시: {}", 
-                errorCount, String.join(", ", errorItems.subList(0, Math.min(10, errorItems.size()))));
+                errorItems.size(), String.join(", ", errorItems.subList(0, 10)));
         }
-        
-        return savedCount;
     }
 
     // =============================================================================
@@ -292,23 +573,11 @@ public class KamcoItemService {
     // =============================================================================
     
     /**
-     * 조회수 증가 (조회 이력도 함께 저장)
+     * 조회수 증가 (조회 이력 포함, 쓰기 지연 버퍼에 기록 후 주기적으로 DB 반영)
      */
-    @Transactional
-    public void incrementViewCount(Long id, String memberId, String ipAddress, String userAgent) {
-        KamcoItem item = kamcoItemMapper.findById(id);
-        if (item != null) {
-            // 조회수 증가
-            kamcoItemMapper.incrementViewCount(id);
-            
-            // 조회 이력 저장
-            KamcoItemViewLog viewLog = new KamcoItemViewLog();
-            viewLog.setItemId(id);
-            viewLog.setCltrNo(item.getCltrNo());
-            viewLog.setMemberId(memberId);
-            viewLog.setIpAddress(ipAddress);
-            viewLog.setUserAgent(userAgent);
-            viewLogMapper.insert(viewLog);
+    public void incrementViewCount(KamcoItem item, String memberId, String ipAddress, String userAgent) {
+        if (item != null && item.getId() != null) {
+            viewCounter.record(item.getId(), item.getCltrNo(), memberId, ipAddress, userAgent);
         }
     }
     
@@ -336,6 +605,8 @@ public class KamcoItemService {
         log.info("🗑️ [Service] deleteNonSeoulItems() 시작");
         log.info("💾 DELETE FROM KNKamcoItem WHERE sido != '서울특별시' 실행 중...");
         int deleted = kamcoItemMapper.deleteNonSeoulItems();
+        readCache.invalidateAfterCommit("deleteNonSeoulItems");
+        searchIndex.rebuildAfterCommit("deleteNonSeoulItems");
         log.info("✅ [Service] deleteNonSeoulItems() 완료: {}개 데이터 삭제", deleted);
         return deleted;
     }
@@ -348,9 +619,63 @@ public class KamcoItemService {
         log.info("⚠️⚠️⚠️ [Service] deleteAllItems() 시작 ⚠️⚠️⚠️");
         log.info("💾 DELETE FROM KNKamcoItem 실행 중...");
         int deleted = kamcoItemMapper.deleteAll();
+        readCache.invalidateAfterCommit("deleteAllItems");
+        searchIndex.rebuildAfterCommit("deleteAllItems");
         log.info("✅ [Service] deleteAllItems() 완료: {}개 데이터 삭제", deleted);
         return deleted;
     }
+    
+    /**
+     * 일일 통계 스냅샷 (INSERT ... SELECT 한 문장, 물건 행을 애플리케이션으로 읽어오지 않음)
+     * @return 영향 행 수 (MySQL 은 같은 날짜 재실행으로 갱신된 행을 2로 셈)
+     */
+    @Transactional
+    public int snapshotDailyStats(LocalDate statDate) {
+        return statsMapper.snapshotDailyStats(statDate);
+    }
+    
+    /**
+     * 일일 통계 스냅샷 - 커서 스트리밍 방식 (행마다 Java 처리가 필요하거나 일괄 SQL 을 쓸 수 없을 때)
+     * - 읽기는 읽기 전용 트랜잭션 안의 Cursor 로 한 행씩, 힙에는 BATCH_UPSERT_CHUNK 건만 유지
+     * - 쓰기는 청크마다 별도 트랜잭션(별도 커넥션): 스트리밍 중인 커넥션에서 다른 문장을 실행하면
+     *   MariaDB 드라이버가 남은 결과를 모두 메모리로 읽어 들이므로 분리
+     * @return 저장된 스냅샷 수
+     */
+    public int snapshotDailyStatsByCursor(LocalDate statDate) {
+        TransactionTemplate chunkTx = new TransactionTemplate(transactionManager);
+        chunkTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        
+        int saved = 0;
+        List<KamcoItemStats> chunk = new ArrayList<>(BATCH_UPSERT_CHUNK);
+        try (Cursor<KamcoItem> cursor = kamcoItemMapper.streamActiveItems()) {
+            for (KamcoItem item : cursor) {
+                KamcoItemStats stats = new KamcoItemStats();
+                stats.setItemId(item.getId());
+                stats.setCltrNo(item.getCltrNo());
+                stats.setStatDate(statDate);
+                stats.setViewCount(item.getViewCount() != null ? item.getViewCount() : 0);
+                stats.setInterestCount(item.getInterestCount() != null ? item.getInterestCount() : 0);
+                chunk.add(stats);
+                
+                if (chunk.size() == BATCH_UPSERT_CHUNK) {
+                    saved += upsertStatsChunk(chunkTx, chunk);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (!chunk.isEmpty()) {
+            saved += upsertStatsChunk(chunkTx, chunk);
+        }
+        return saved;
+    }
+    
+    private int upsertStatsChunk(TransactionTemplate chunkTx, List<KamcoItemStats> chunk) {
+        int size = chunk.size();
+        chunkTx.executeWithoutResult(status -> statsMapper.upsertBatch(chunk));
+        chunk.clear();
+        return size;
+    }
 
     // =============================================================================
     // 유틸리티 메서드
@@ -439,10 +764,40 @@ public class KamcoItemService {
         kamcoItem.setIsNew(true);
         kamcoItem.setIsActive(true);
         kamcoItem.setApiSyncDate(LocalDateTime.now());
+        kamcoItem.setContentHash(computeContentHash(kamcoItem));
         
         return kamcoItem;
     }
     
+    /**
+     * API 데이터 내용 해시 (SHA-256)
+     * - 순번(rnum)과 API 조회수(iqryCnt)는 응답마다 바뀌는 값이라 제외
+     */
+    private String computeContentHash(KamcoItem item) {
+        String content = String.join("\u0001",
+            String.valueOf(item.getPlnmNo()), String.valueOf(item.getPbctNo()),
+            String.valueOf(item.getOrgBaseNo()), String.valueOf(item.getOrgNm()),
+            String.valueOf(item.getCltrNo()), String.valueOf(item.getPbctCdtnNo()),
+            String.valueOf(item.getCltrMnmtNo()), String.valueOf(item.getCltrHstrNo()),
+            String.valueOf(item.getBidMnmtNo()), String.valueOf(item.getScrnGrpCd()),
+            String.valueOf(item.getCtgrId()), String.valueOf(item.getCtgrFullNm()),
+            String.valueOf(item.getCltrNm()), String.valueOf(item.getGoodsNm()),
+            String.valueOf(item.getManf()), String.valueOf(item.getLdnmAdrs()),
+            String.valueOf(item.getNmrdAdrs()), String.valueOf(item.getRodNm()),
+            String.valueOf(item.getBldNo()), String.valueOf(item.getDpslMtdCd()),
+            String.valueOf(item.getDpslMtdNm()), String.valueOf(item.getBidMtdNm()),
+            String.valueOf(item.getMinBidPrc()), String.valueOf(item.getApslAsesAvgAmt()),
+            String.valueOf(item.getFeeRate()), String.valueOf(item.getPbctBegnDtm()),
+            String.valueOf(item.getPbctClsDtm()), String.valueOf(item.getPbctCltrStatNm()),
+            String.valueOf(item.getUscbCnt()));
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(content.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+    
     /**
      * 주소에서 시도 추출
      */
@@ -2,21 +2,31 @@ package com.api.item.service;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
-import com.api.item.domain.KamcoItem;
-import com.api.item.domain.KamcoItemStats;
 import com.api.item.domain.Item;
 import com.api.item.domain.NewItemNotification;
-import com.api.item.mapper.KamcoItemMapper;
-import com.api.item.mapper.KamcoItemStatsMapper;
-import com.api.item.mapper.KamcoItemViewLogMapper;
 import com.api.item.mapper.NewItemNotificationMapper;
 
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -27,19 +37,102 @@ public class KamcoItemSyncScheduler {
 
     private final OnbidApiService onbidApiService;
     private final KamcoItemService kamcoItemService;
-    private final KamcoItemMapper kamcoItemMapper;
     private final NewItemNotificationMapper notificationMapper;
-    private final KamcoItemStatsMapper statsMapper;
-    private final KamcoItemViewLogMapper viewLogMapper;
-
-    // 동기화할 시도 목록 (서울특별시만)
-    private static final String[] SIDO_LIST = {
-        "서울특별시"
-        // 다른 지역 추가 예시:
-        // "경기도",
-        // "인천광역시",
-        // "부산광역시"
-    };
+    private final DataRetentionService retentionService;
+
+    private final OnbidRateLimiter rateLimiter;
+    private final KamcoItemReadCache readCache;
+    private final KamcoItemSearchIndex searchIndex;
+
+    // 동기화할 시도 목록 (기본: 서울특별시, 전국 동기화 시 17개 시도를 콤마로 나열)
+    @Value("${onbid.sync.sido-list:서울특별시}")
+    private String[] sidoList;
+
+    // 동시에 실행할 API 호출 + 저장 작업 수 (DB 커넥션 풀 크기보다 작게 유지)
+    @Value("${onbid.sync.max-concurrency:4}")
+    private int maxConcurrency;
+
+    // 피드별로 한 번에 미리 요청할 페이지 수
+    @Value("${onbid.sync.page-window:3}")
+    private int pageWindow;
+
+    // 증분 동기화: 내용 해시가 같은 행은 DB 쓰기 생략, 변경 없는 페이지에서 페이지 순회 중단
+    @Value("${onbid.sync.delta.enabled:true}")
+    private boolean deltaEnabled;
+
+    // 증분 동기화(매시간/4시간) 시 피드별 최대 조회 페이지 수
+    @Value("${onbid.sync.delta.max-pages:5}")
+    private int deltaMaxPages;
+
+    // 물건 공지 생성 타입 (NEW, PRICE_DROP, DEADLINE 중 콤마로 나열)
+    @Value("${kamco.notification.types:NEW}")
+    private String[] notificationTypes;
+
+    // 타입별 1회 최대 생성 수 / 공지 노출 기간(일) / DEADLINE 공지 대상 마감 구간(시간)
+    @Value("${kamco.notification.batch-limit:50}")
+    private int notificationLimit;
+
+    @Value("${kamco.notification.expire-days:7}")
+    private int notificationExpireDays;
+
+    @Value("${kamco.notification.deadline-hours:48}")
+    private int notificationDeadlineHours;
+
+    // 일일 통계 스냅샷 방식 (bulk: INSERT ... SELECT 한 문장, cursor: 커서 스트리밍 + 청크 UPSERT)
+    @Value("${kamco.stats.snapshot-mode:bulk}")
+    private String statsSnapshotMode;
+
+    // 50% 체감 피드: 마지막 갱신 후 이 시간이 지나면 다음 방문 때 백그라운드 갱신
+    @Value("${onbid.discount50.stale-after-ms:1800000}")
+    private long discount50StaleAfterMs;
+
+    private static final int SYNC_PAGE_SIZE = 100;
+    private static final DateTimeFormatter PBCT_DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+    private static final int DELTA_PAGE_SIZE = 50;
+
+    // 요청 파라미터로 들어온 시도명 검증용 (개편 전/후 명칭 모두 허용)
+    private static final Set<String> SIDO_NAMES = Set.of(
+            "서울특별시", "부산광역시", "대구광역시", "인천광역시", "광주광역시", "대전광역시", "울산광역시",
+            "세종특별자치시", "경기도", "강원도", "강원특별자치도", "충청북도", "충청남도", "전라북도",
+            "전북특별자치도", "전라남도", "경상북도", "경상남도", "제주특별자치도");
+
+    // 시도/피드별 최신 물건 워터마크 (cltrNo/cltrHstrNo/pbctNo) - 이미 본 물건에 도달하면 순회 중단
+    private final Map<String, String> feedWatermarks = new ConcurrentHashMap<>();
+
+    // 50% 체감 피드 시도별 마지막 갱신 시각 / 진행 중인 갱신 (single-flight)
+    private final Map<String, Long> discount50RefreshedAt = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<Integer>> discount50InFlight = new ConcurrentHashMap<>();
+    private final ExecutorService refreshExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    /**
+     * 동기화 대상 온비드 피드 (피드명, 최대 페이지 수)
+     */
+    private enum SyncFeed {
+        USAGE("용도별", 50),
+        NEW("신규", 10),
+        DEADLINE("마감임박", 10),
+        DISCOUNT_50("50% 체감", 10);
+
+        private final String label;
+        private final int maxPages;
+
+        SyncFeed(String label, int maxPages) {
+            this.label = label;
+            this.maxPages = maxPages;
+        }
+    }
+
+    /**
+     * 샤드(시도 × 피드) 단위 동기화 결과
+     */
+    private record ShardResult(String sido, SyncFeed feed, int pages, int items, long elapsedMs, String error) {
+    }
+
+    /**
+     * 페이지 단위 동기화 결과
+     */
+    private record PageResult(int fetched, int saved) {
+    }
 
     // =============================================================================
     // 스케줄러 작업들
@@ -47,76 +140,47 @@ public class KamcoItemSyncScheduler {
     
     /**
      * 전체 물건 동기화 (매일 오전 2시 실행)
+     * - 시도 × 피드 × 페이지로 분할하여 가상 스레드에서 병렬 처리
+     * - 동시 실행 수는 Semaphore로, API 호출 속도는 공유 토큰 버킷으로 제한
      */
     @Scheduled(cron = "0 0 2 * * *")
     public void syncAllItems() {
         log.info("🔄 ==================== 전체 물건 동기화 시작 ====================");
         
+        long startTime = System.currentTimeMillis();
         int totalSynced = 0;
         int totalNew = 0;
         
         try {
-            // 1. 모든 API에서 서울특별시 데이터 가져오기
-            for (String sido : SIDO_LIST) {
-                try {
-                    log.info("📍 {} 전체 물건 조회 시작...", sido);
-                    
-                // 1-1. 용도별 물건 (페이징 - 최대 5000개)
-                for (int page = 1; page <= 50; page++) {
-                        List<Item> items = onbidApiService.getUnifyUsageCltr(sido, page, 100);
-                        if (items != null && !items.isEmpty()) {
-                            int synced = kamcoItemService.saveBatchFromApiItems(items);
-                            totalSynced += synced;
-                            log.info("✅ 용도별 물건 {}페이지: {}개", page, synced);
-                            Thread.sleep(500);
-                        } else {
-                            break; // 더 이상 데이터 없음
-                        }
-                    }
-                    
-                // 1-2. 신규 물건 (페이징 - 최대 1000개)
-                for (int page = 1; page <= 10; page++) {
-                        List<Item> newItems = onbidApiService.getUnifyNewCltrList(sido, page, 100);
-                        if (newItems != null && !newItems.isEmpty()) {
-                            int synced = kamcoItemService.saveBatchFromApiItems(newItems);
-                            totalSynced += synced;
-                            log.info("✅ 신규 물건 {}페이지: {}개", page, synced);
-                            Thread.sleep(500);
-                        } else {
-                            break;
-                        }
-                    }
-                    
-                // 1-3. 마감임박 물건 (페이징 - 최대 1000개)
-                for (int page = 1; page <= 10; page++) {
-                        List<Item> deadlineItems = onbidApiService.getUnifyDeadlineCltrList(sido, page, 100);
-                        if (deadlineItems != null && !deadlineItems.isEmpty()) {
-                            int synced = kamcoItemService.saveBatchFromApiItems(deadlineItems);
-                            totalSynced += synced;
-                            log.info("✅ 마감임박 물건 {}페이지: {}개", page, synced);
-                            Thread.sleep(500);
-                        } else {
-                            break;
-                        }
+            List<ShardResult> results = new ArrayList<>();
+            Semaphore permits = new Semaphore(Math.max(1, maxConcurrency));
+
+            // 1. 시도 × 피드 샤드를 병렬로 동기화
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                List<Future<ShardResult>> futures = new ArrayList<>();
+                for (String sido : sidoList) {
+                    for (SyncFeed feed : SyncFeed.values()) {
+                        futures.add(executor.submit(() -> syncShard(executor, permits, sido.trim(), feed)));
                     }
-                    
-                // 1-4. 50% 체감 물건 (페이징 - 최대 1000개)
-                for (int page = 1; page <= 10; page++) {
-                        List<Item> discountItems = onbidApiService.getUnifyDegression50PerCltrList(sido, page, 100);
-                        if (discountItems != null && !discountItems.isEmpty()) {
-                            int synced = kamcoItemService.saveBatchFromApiItems(discountItems);
-                            totalSynced += synced;
-                            log.info("✅ 50% 체감 물건 {}페이지: {}개", page, synced);
-                            Thread.sleep(500);
-                        } else {
-                            break;
-                        }
+                }
+                for (Future<ShardResult> future : futures) {
+                    try {
+                        results.add(future.get());
+                    } catch (ExecutionException e) {
+                        log.error("❌ 샤드 동기화 실패: {}", e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
                     }
-                    
-                    log.info("✅ {} 전체 동기화 완료: 총 {}개", sido, totalSynced);
-                    
-                } catch (Exception e) {
-                    log.error("❌ {} 동기화 실패: {}", sido, e.getMessage());
+                }
+            }
+
+            // 샤드별 리포트
+            for (ShardResult result : results) {
+                totalSynced += result.items();
+                if (result.error() != null) {
+                    log.warn("⚠️ [{}/{}] {}페이지, {}개, {}ms (오류: {})", result.sido(), result.feed().label,
+                            result.pages(), result.items(), result.elapsedMs(), result.error());
+                } else {
+                    log.info("📦 [{}/{}] {}페이지, {}개, {}ms", result.sido(), result.feed().label,
+                            result.pages(), result.items(), result.elapsedMs());
                 }
             }
             
@@ -124,12 +188,151 @@ public class KamcoItemSyncScheduler {
             createNewItemNotifications();
             
             log.info("✅ ==================== 전체 물건 동기화 완료 ====================");
-            log.info("📊 총 동기화: {}개, 신규: {}개", totalSynced, totalNew);
+            log.info("📊 총 동기화: {}개, 신규: {}개, 샤드: {}개, 소요: {}ms",
+                    totalSynced, totalNew, results.size(), System.currentTimeMillis() - startTime);
             
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("❌ 전체 물건 동기화가 중단되었습니다.");
         } catch (Exception e) {
             log.error("❌ 전체 물건 동기화 중 오류 발생: {}", e.getMessage(), e);
         }
     }
+
+    /**
+     * 한 샤드(시도 × 피드) 동기화
+     * - pageWindow 만큼의 페이지를 동시에 요청하고, 빈 페이지/마지막 페이지를 만나면 중단
+     */
+    private ShardResult syncShard(ExecutorService executor, Semaphore permits, String sido, SyncFeed feed) {
+        long shardStart = System.currentTimeMillis();
+        int pages = 0;
+        int items = 0;
+        int window = Math.max(1, pageWindow);
+
+        try {
+            boolean done = false;
+            for (int startPage = 1; startPage <= feed.maxPages && !done; startPage += window) {
+                int endPage = Math.min(startPage + window - 1, feed.maxPages);
+
+                List<Future<PageResult>> pageFutures = new ArrayList<>();
+                for (int page = startPage; page <= endPage; page++) {
+                    int pageNo = page;
+                    pageFutures.add(executor.submit(() -> syncPage(permits, sido, feed, pageNo)));
+                }
+
+                // 페이지 순서대로 결과 확인
+                for (Future<PageResult> pageFuture : pageFutures) {
+                    PageResult pageResult = pageFuture.get();
+                    if (done || pageResult.fetched() == 0) {
+                        done = true; // 더 이상 데이터 없음
+                        continue;
+                    }
+                    pages++;
+                    items += pageResult.saved();
+                    if (pageResult.fetched() < SYNC_PAGE_SIZE) {
+                        done = true; // 마지막 페이지
+                    }
+                }
+            }
+            return new ShardResult(sido, feed, pages, items, System.currentTimeMillis() - shardStart, null);
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new ShardResult(sido, feed, pages, items, System.currentTimeMillis() - shardStart, "중단됨");
+        } catch (Exception e) {
+            String message = e.getCause() != null ? e.getCause().getMessage() : e.getMessage();
+            return new ShardResult(sido, feed, pages, items, System.currentTimeMillis() - shardStart, message);
+        }
+    }
+
+    /**
+     * 한 페이지 조회 + 저장 (동시 실행 수 제한)
+     */
+    private PageResult syncPage(Semaphore permits, String sido, SyncFeed feed, int pageNo) throws InterruptedException {
+        permits.acquire();
+        try {
+            List<Item> items = fetchPage(sido, feed, pageNo, SYNC_PAGE_SIZE);
+            if (items == null || items.isEmpty()) {
+                return new PageResult(0, 0);
+            }
+            int saved = deltaEnabled
+                    ? kamcoItemService.saveChangedFromApiItems(items).saved()
+                    : kamcoItemService.saveBatchFromApiItems(items);
+            log.debug("✅ [{}/{}] {}페이지: {}개", sido, feed.label, pageNo, saved);
+            return new PageResult(items.size(), saved);
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * 피드 증분 동기화 (매시간/4시간 작업용)
+     * - 페이지마다 변경분만 저장하고, 변경이 없는 페이지 또는 지난 실행의 워터마크에 도달하면 중단
+     * - 증분 모드가 꺼져 있으면 기존처럼 1페이지만 전체 저장
+     *
+     * @return 저장된 물건 수
+     */
+    private int syncFeedIncremental(String sido, SyncFeed feed) throws InterruptedException {
+        String key = sido + "|" + feed.name();
+        String previousMark = feedWatermarks.get(key);
+        String newMark = null;
+        int pages = 0;
+        int changed = 0;
+        int saved = 0;
+        int maxPages = deltaEnabled ? Math.max(1, deltaMaxPages) : 1;
+
+        for (int page = 1; page <= maxPages; page++) {
+            List<Item> items = fetchPage(sido, feed, page, DELTA_PAGE_SIZE);
+            if (items == null || items.isEmpty()) {
+                break;
+            }
+            pages++;
+            if (page == 1) {
+                newMark = watermarkOf(items.get(0));
+            }
+
+            if (!deltaEnabled) {
+                saved += kamcoItemService.saveBatchFromApiItems(items);
+                break;
+            }
+
+            KamcoItemService.DeltaResult result = kamcoItemService.saveChangedFromApiItems(items);
+            changed += result.changed();
+            saved += result.saved();
+
+            boolean reachedMark = previousMark != null
+                    && items.stream().anyMatch(item -> previousMark.equals(watermarkOf(item)));
+            if (result.changed() == 0 || reachedMark || items.size() < DELTA_PAGE_SIZE) {
+                break;
+            }
+        }
+
+        if (newMark != null) {
+            feedWatermarks.put(key, newMark);
+        }
+        log.info("🔁 [{}/{}] 증분 동기화: {}페이지, 변경 {}개, 저장 {}개", sido, feed.label, pages, changed, saved);
+        return saved;
+    }
+
+    /**
+     * 워터마크 키 (물건번호/물건이력번호/공매번호)
+     */
+    private String watermarkOf(Item item) {
+        return item.getCltrNo() + "/" + item.getCltrHstrNo() + "/" + item.getPbctNo();
+    }
+
+    /**
+     * 피드별 온비드 API 호출 (공유 Rate Limiter 적용)
+     */
+    private List<Item> fetchPage(String sido, SyncFeed feed, int pageNo, int numOfRows) throws InterruptedException {
+        rateLimiter.acquire();
+        return switch (feed) {
+            case USAGE -> onbidApiService.getUnifyUsageCltr(sido, pageNo, numOfRows);
+            case NEW -> onbidApiService.getUnifyNewCltrList(sido, pageNo, numOfRows);
+            case DEADLINE -> onbidApiService.getUnifyDeadlineCltrList(sido, pageNo, numOfRows);
+            case DISCOUNT_50 -> onbidApiService.getUnifyDegression50PerCltrList(sido, pageNo, numOfRows);
+        };
+    }
     
     /**
      * 신규 물건만 동기화 (매시간 실행)
@@ -141,17 +344,13 @@ public class KamcoItemSyncScheduler {
         try {
             int totalSynced = 0;
             
-            for (String sido : SIDO_LIST) {
+            for (String sido : sidoList) {
                 try {
-                    List<Item> newItems = onbidApiService.getUnifyNewCltrList(sido, 1, 50);
-                    
-                    if (newItems != null && !newItems.isEmpty()) {
-                        int synced = kamcoItemService.saveBatchFromApiItems(newItems);
-                        totalSynced += synced;
-                    }
-                    
-                    Thread.sleep(500);
+                    totalSynced += syncFeedIncremental(sido.trim(), SyncFeed.NEW);
                     
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
                 } catch (Exception e) {
                     log.error("❌ {} 신규 물건 동기화 실패: {}", sido, e.getMessage());
                 }
@@ -177,17 +376,13 @@ public class KamcoItemSyncScheduler {
         try {
             int totalSynced = 0;
             
-            for (String sido : SIDO_LIST) {
+            for (String sido : sidoList) {
                 try {
-                    List<Item> deadlineItems = onbidApiService.getUnifyDeadlineCltrList(sido, 1, 50);
-                    
-                    if (deadlineItems != null && !deadlineItems.isEmpty()) {
-                        int synced = kamcoItemService.saveBatchFromApiItems(deadlineItems);
-                        totalSynced += synced;
-                    }
-                    
-                    Thread.sleep(500);
+                    totalSynced += syncFeedIncremental(sido.trim(), SyncFeed.DEADLINE);
                     
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
                 } catch (Exception e) {
                     log.error("❌ {} 마감임박 물건 동기화 실패: {}", sido, e.getMessage());
                 }
@@ -200,75 +395,151 @@ public class KamcoItemSyncScheduler {
         }
     }
     
+    /**
+     * 50% 체감 물건 동기화 (onbid.discount50.refresh-interval-ms 마다)
+     * - 동기화 대상 시도와 방문으로 갱신된 적 있는 시도를 차례로 갱신
+     */
+    @Scheduled(fixedDelayString = "${onbid.discount50.refresh-interval-ms:1800000}", initialDelayString = "${onbid.discount50.refresh-interval-ms:1800000}")
+    public void syncDiscount50Items() {
+        log.info("🔄 50% 체감 물건 동기화 시작...");
+
+        Set<String> sidos = new LinkedHashSet<>();
+        for (String sido : sidoList) {
+            sidos.add(sido.trim());
+        }
+        sidos.addAll(discount50RefreshedAt.keySet());
+
+        int totalSynced = 0;
+        for (String sido : sidos) {
+            try {
+                totalSynced += refreshDiscount50(sido).join();
+            } catch (Exception e) {
+                log.error("❌ {} 50% 체감 물건 동기화 실패: {}", sido, e.getMessage());
+            }
+        }
+        log.info("✅ 50% 체감 물건 동기화 완료: {}개", totalSynced);
+    }
+
+    /**
+     * 50% 체감 피드 stale-while-revalidate (페이지 요청용)
+     * - 마지막 갱신이 stale-after 보다 오래됐으면 백그라운드 갱신만 예약하고 바로 반환 (요청은 DB 데이터를 그대로 사용)
+     * - 같은 시도의 갱신이 이미 진행 중이면 새로 호출하지 않고 그 작업을 공유
+     *
+     * @return 진행 중인 갱신 작업 (갱신이 필요 없거나 알 수 없는 시도면 null)
+     */
+    public CompletableFuture<Integer> refreshDiscount50IfStale(String sido) {
+        if (sido == null || !SIDO_NAMES.contains(sido.trim())) {
+            return null;
+        }
+        String key = sido.trim();
+        Long refreshedAt = discount50RefreshedAt.get(key);
+        if (refreshedAt != null && System.currentTimeMillis() - refreshedAt < discount50StaleAfterMs) {
+            return null;
+        }
+        return refreshDiscount50(key);
+    }
+
+    /**
+     * 시도별 50% 체감 피드 갱신 (single-flight: 시도당 동시에 하나만 실행)
+     */
+    private CompletableFuture<Integer> refreshDiscount50(String sido) {
+        CompletableFuture<Integer> created = new CompletableFuture<>();
+        CompletableFuture<Integer> running = discount50InFlight.putIfAbsent(sido, created);
+        if (running != null) {
+            return running;
+        }
+
+        try {
+            refreshExecutor.execute(() -> runDiscount50Refresh(sido, created));
+        } catch (RejectedExecutionException e) {
+            // 종료 중이라 실행할 수 없음 - 등록을 풀어 이후 호출자가 완료되지 않는 작업을 받지 않도록 함
+            discount50InFlight.remove(sido, created);
+            created.completeExceptionally(e);
+        }
+        return created;
+    }
+
+    private void runDiscount50Refresh(String sido, CompletableFuture<Integer> created) {
+        try {
+            created.complete(syncFeedIncremental(sido, SyncFeed.DISCOUNT_50));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            created.complete(0);
+        } catch (Exception e) {
+            log.error("❌ {} 50% 체감 피드 갱신 실패: {}", sido, e.getMessage());
+            created.completeExceptionally(e);
+        } finally {
+            // 실패해도 갱신 시각을 남겨 방문마다 재호출하지 않음 (다음 stale 주기에 재시도)
+            discount50RefreshedAt.put(sido, System.currentTimeMillis());
+            discount50InFlight.remove(sido, created);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
     /**
      * 새로운 물건 공지사항 생성
+     * - 설정된 공지 타입마다 미공지 물건을 INSERT ... SELECT 한 문장으로 추가 (중복은 안티 조인으로 제외)
      */
     private void createNewItemNotifications() {
         log.info("🔔 새로운 물건 공지사항 생성 시작...");
         
-        try {
-            // 최근 24시간 이내 생성된 신규 물건 조회
-            List<KamcoItem> newItems = kamcoItemMapper.findNewItems(50);
-            
-            int createdCount = 0;
-            for (KamcoItem item : newItems) {
-                try {
-                    NewItemNotification notification = new NewItemNotification();
-                    notification.setItemId(item.getId());
-                    notification.setCltrNo(item.getCltrNo());
-                    notification.setCltrNm(item.getCltrNm());
-                    notification.setMinBidPrc(item.getMinBidPrc());
-                    notification.setPbctClsDtm(item.getPbctClsDtm());
-                    notification.setNotificationType("NEW");
-                    notification.setIsDisplayed(true);
-                    notification.setDisplayOrder(0);
-                    notification.setExpiredDate(LocalDateTime.now().plusDays(7)); // 7일 후 만료
-                    
-                    notificationMapper.insert(notification);
-                    createdCount++;
-                    
-                } catch (Exception e) {
-                    // 중복 등의 이유로 실패할 수 있음 (무시)
-                }
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiredDate = now.plusDays(notificationExpireDays);
+        LocalDateTime since = now.minusHours(24);
+        String deadlineFrom = now.format(PBCT_DATE_TIME);
+        String deadlineUntil = now.plusHours(notificationDeadlineHours).format(PBCT_DATE_TIME);
+        
+        int createdCount = 0;
+        for (String configured : notificationTypes) {
+            String type = configured.trim().toUpperCase(Locale.ROOT);
+            if (!NewItemNotification.TYPES.contains(type)) {
+                log.warn("⚠️ 알 수 없는 공지 타입 건너뜀: {}", configured);
+                continue;
+            }
+            try {
+                int created = notificationMapper.insertForUnnotifiedItems(
+                        type, notificationLimit, expiredDate, since, deadlineFrom, deadlineUntil);
+                createdCount += created;
+                log.info("🔔 [{}] 공지 {}개 생성", type, created);
+            } catch (Exception e) {
+                log.error("❌ [{}] 공지사항 생성 실패: {}", type, e.getMessage());
             }
-            
-            log.info("✅ 새로운 물건 공지사항 생성 완료: {}개", createdCount);
-            
-        } catch (Exception e) {
-            log.error("❌ 새로운 물건 공지사항 생성 실패: {}", e.getMessage());
         }
+        
+        log.info("✅ 새로운 물건 공지사항 생성 완료: {}개", createdCount);
     }
     
     /**
      * 통계 스냅샷 생성 (매일 자정 실행)
+     * - 기본은 INSERT ... SELECT 한 문장 (물건 행을 애플리케이션으로 읽지 않음)
+     * - cursor 모드이거나 일괄 SQL 이 실패하면 커서 스트리밍 방식으로 생성
      */
     @Scheduled(cron = "0 0 0 * * *")
     public void createDailyStats() {
         log.info("📊 일일 통계 스냅샷 생성 시작...");
         
-        try {
-            List<KamcoItem> allItems = kamcoItemMapper.findAll();
-            int createdCount = 0;
-            
-            for (KamcoItem item : allItems) {
-                try {
-                    KamcoItemStats stats = new KamcoItemStats();
-                    stats.setItemId(item.getId());
-                    stats.setCltrNo(item.getCltrNo());
-                    stats.setStatDate(LocalDate.now());
-                    stats.setViewCount(item.getViewCount());
-                    stats.setInterestCount(item.getInterestCount());
-                    
-                    statsMapper.insertOrUpdate(stats);
-                    createdCount++;
-                    
-                } catch (Exception e) {
-                    // 실패 시 로그만 남기고 계속 진행
-                    log.debug("통계 스냅샷 생성 실패: {}", item.getCltrNo());
-                }
+        LocalDate statDate = LocalDate.now();
+        long startTime = System.currentTimeMillis();
+        
+        if (!"cursor".equalsIgnoreCase(statsSnapshotMode)) {
+            try {
+                int affected = kamcoItemService.snapshotDailyStats(statDate);
+                log.info("✅ 일일 통계 스냅샷 생성 완료 (일괄): 영향 행 {}개, {}ms",
+                        affected, System.currentTimeMillis() - startTime);
+                return;
+            } catch (Exception e) {
+                log.warn("⚠️ 일괄 통계 스냅샷 실패, 커서 방식으로 재시도: {}", e.getMessage());
             }
-            
-            log.info("✅ 일일 통계 스냅샷 생성 완료: {}개", createdCount);
+        }
+        
+        try {
+            int createdCount = kamcoItemService.snapshotDailyStatsByCursor(statDate);
+            log.info("✅ 일일 통계 스냅샷 생성 완료 (커서): {}개, {}ms",
+                    createdCount, System.currentTimeMillis() - startTime);
             
         } catch (Exception e) {
             log.error("❌ 일일 통계 스냅샷 생성 실패: {}", e.getMessage());
@@ -277,35 +548,23 @@ public class KamcoItemSyncScheduler {
     
     /**
      * 데이터 정리 작업 (매일 오전 3시 실행)
+     * - 보관 정책별 청크 단위 UPDATE/DELETE 는 DataRetentionService 가 수행
      */
     @Scheduled(cron = "0 0 3 * * *")
     public void cleanupData() {
         log.info("🧹 데이터 정리 작업 시작...");
         
         try {
-            // 1. 오래된 신규 물건 플래그 해제 (7일 이상)
-            kamcoItemMapper.unmarkOldNewItems();
-            log.info("✅ 오래된 신규 물건 플래그 해제 완료");
-            
-            // 2. 종료된 물건 비활성화
-            kamcoItemMapper.deactivateExpiredItems();
-            log.info("✅ 종료된 물건 비활성화 완료");
+            List<DataRetentionService.PolicyResult> results = retentionService.runAll();
             
-            // 3. 만료된 공지사항 삭제
-            notificationMapper.deleteExpired();
-            log.info("✅ 만료된 공지사항 삭제 완료");
-            
-            // 4. 오래된 공지사항 숨김 처리 (30일 이상)
-            notificationMapper.hideOldNotifications();
-            log.info("✅ 오래된 공지사항 숨김 처리 완료");
-            
-            // 5. 오래된 조회 이력 삭제 (30일 이상)
-            viewLogMapper.deleteOldLogs();
-            log.info("✅ 오래된 조회 이력 삭제 완료");
-            
-            // 6. 오래된 통계 삭제 (90일 이상)
-            statsMapper.deleteOldStats();
-            log.info("✅ 오래된 통계 삭제 완료");
+            // 물건 플래그/활성 상태가 바뀌었으면 목록 캐시와 검색 색인 갱신
+            boolean itemsChanged = results.stream().anyMatch(result -> result.affected() > 0
+                    && (DataRetentionService.POLICY_NEW_FLAG.equals(result.name())
+                        || DataRetentionService.POLICY_EXPIRED_ITEMS.equals(result.name())));
+            if (itemsChanged) {
+                readCache.invalidate("cleanupData");
+                searchIndex.rebuildAsync("cleanupData");
+            }
             
             log.info("✅ 데이터 정리 작업 완료");
             
@@ -0,0 +1,195 @@
+package com.api.item.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.api.item.domain.KamcoItemViewLog;
+import com.api.item.mapper.KamcoItemMapper;
+import com.api.item.mapper.KamcoItemViewLogMapper;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 조회수 쓰기 지연(write-behind) 버퍼
+ * - 상세 조회 요청은 메모리 카운터(물건별 누적 수)와 조회 이력 큐에만 기록 (DB 행 잠금 없음)
+ * - 주기적으로 물건별 누적 조회수를 한 문장으로 반영하고 조회 이력은 다중 VALUES 로 일괄 INSERT
+ * - 이력 큐가 가득 차면 이력만 버리고(조회수는 유지) dropped 메트릭 증가
+ * - 종료 시 남은 버퍼를 모두 반영
+ * - 물건별 카운터는 반영할 때 맵에서 꺼내 제거 (맵 크기 = 직전 반영 이후 조회된 물건 수)
+ *   증가(merge)와 꺼내기(remove)가 모두 키 단위 원자 연산이라 제거와 겹친 조회도 유실되지 않음
+ */
+@Slf4j
+@Component
+public class KamcoItemViewCounter {
+
+    private static final int UPDATE_CHUNK = 500;
+    private static final int LOG_INSERT_CHUNK = 500;
+
+    private final KamcoItemMapper kamcoItemMapper;
+    private final KamcoItemViewLogMapper viewLogMapper;
+    private final int queueCapacity;
+
+    private final ConcurrentHashMap<Long, Long> pendingCounts = new ConcurrentHashMap<>();
+    private final BlockingQueue<KamcoItemViewLog> logQueue;
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private final LongAdder recordedViews = new LongAdder();
+    private final LongAdder flushedViews = new LongAdder();
+    private final LongAdder flushedLogs = new LongAdder();
+    private final LongAdder droppedLogs = new LongAdder();
+    private final LongAdder flushFailures = new LongAdder();
+    private volatile LocalDateTime lastFlushAt;
+
+    public KamcoItemViewCounter(KamcoItemMapper kamcoItemMapper,
+                                KamcoItemViewLogMapper viewLogMapper,
+                                @Value("${kamco.view-counter.queue-capacity:10000}") int queueCapacity) {
+        this.kamcoItemMapper = kamcoItemMapper;
+        this.viewLogMapper = viewLogMapper;
+        this.queueCapacity = Math.max(1, queueCapacity);
+        this.logQueue = new ArrayBlockingQueue<>(this.queueCapacity);
+    }
+
+    /**
+     * 조회 1건 기록 (요청 스레드, DB 접근 없음)
+     */
+    public void record(Long itemId, String cltrNo, String memberId, String ipAddress, String userAgent) {
+        pendingCounts.merge(itemId, 1L, Long::sum);
+        recordedViews.increment();
+
+        KamcoItemViewLog viewLog = new KamcoItemViewLog();
+        viewLog.setItemId(itemId);
+        viewLog.setCltrNo(cltrNo);
+        viewLog.setMemberId(memberId);
+        viewLog.setIpAddress(ipAddress);
+        viewLog.setUserAgent(userAgent);
+        viewLog.setViewDate(LocalDateTime.now());
+        if (!logQueue.offer(viewLog)) {
+            droppedLogs.increment();
+        }
+    }
+
+    /**
+     * 버퍼 반영 (주기 실행)
+     */
+    @Scheduled(fixedDelayString = "${kamco.view-counter.flush-interval-ms:5000}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            int views = flushCounts();
+            int logs = flushLogs();
+            lastFlushAt = LocalDateTime.now();
+            if (views > 0 || logs > 0) {
+                log.debug("👁️ 조회수 반영: 조회수 {}건, 이력 {}건", views, logs);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 종료 시 남은 버퍼 반영
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        log.info("👁️ 종료 전 조회수 버퍼 반영: 대기 물건 {}건, 이력 {}건", pendingCounts.size(), logQueue.size());
+        flush();
+    }
+
+    private int flushCounts() {
+        Map<Long, Long> deltas = new HashMap<>();
+        for (Long itemId : pendingCounts.keySet()) {
+            // 꺼낸 뒤 들어온 조회는 새 항목으로 쌓여 다음 주기에 반영
+            Long delta = pendingCounts.remove(itemId);
+            if (delta != null && delta > 0) {
+                deltas.put(itemId, delta);
+            }
+        }
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+
+        int flushed = 0;
+        Map<Long, Long> chunk = new HashMap<>();
+        for (Map.Entry<Long, Long> entry : deltas.entrySet()) {
+            chunk.put(entry.getKey(), entry.getValue());
+            if (chunk.size() == UPDATE_CHUNK) {
+                flushed += applyCounts(chunk);
+                chunk = new HashMap<>();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            flushed += applyCounts(chunk);
+        }
+        return flushed;
+    }
+
+    private int applyCounts(Map<Long, Long> deltas) {
+        try {
+            kamcoItemMapper.addViewCounts(deltas);
+            flushedViews.add(deltas.values().stream().mapToLong(Long::longValue).sum());
+            return deltas.size();
+        } catch (Exception e) {
+            // 실패분은 다음 주기에 다시 반영
+            flushFailures.increment();
+            deltas.forEach((id, delta) -> pendingCounts.merge(id, delta, Long::sum));
+            log.error("❌ 조회수 반영 실패 (다음 주기에 재시도): {}", e.getMessage());
+            return 0;
+        }
+    }
+
+    private int flushLogs() {
+        int flushed = 0;
+        List<KamcoItemViewLog> batch = new ArrayList<>(LOG_INSERT_CHUNK);
+        while (logQueue.drainTo(batch, LOG_INSERT_CHUNK) > 0) {
+            try {
+                viewLogMapper.insertBatch(batch);
+                flushed += batch.size();
+                flushedLogs.add(batch.size());
+            } catch (Exception e) {
+                // 이력은 보조 데이터이므로 실패 시 버림
+                flushFailures.increment();
+                droppedLogs.add(batch.size());
+                log.error("❌ 조회 이력 일괄 저장 실패 ({}건 버림): {}", batch.size(), e.getMessage());
+                break;
+            } finally {
+                batch.clear();
+            }
+        }
+        return flushed;
+    }
+
+    /**
+     * 버퍼 메트릭
+     */
+    public Map<String, Object> getStats() {
+        long pendingViews = 0;
+        for (Long pending : pendingCounts.values()) {
+            pendingViews += pending;
+        }
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("pendingItems", pendingCounts.size());
+        stats.put("pendingViews", pendingViews);
+        stats.put("queueDepth", logQueue.size());
+        stats.put("queueCapacity", queueCapacity);
+        stats.put("recordedViews", recordedViews.sum());
+        stats.put("flushedViews", flushedViews.sum());
+        stats.put("flushedLogs", flushedLogs.sum());
+        stats.put("droppedLogs", droppedLogs.sum());
+        stats.put("flushFailures", flushFailures.sum());
+        stats.put("lastFlushAt", lastFlushAt);
+        return stats;
+    }
+}
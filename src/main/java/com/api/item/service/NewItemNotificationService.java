@@ -1,16 +1,10 @@
 package com.api.item.service;
 
-import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import com.api.item.domain.Item;
 import com.api.item.domain.NewItemNotification;
 import com.api.item.dto.ItemWithHistory;
 import com.api.item.mapper.NewItemNotificationMapper;
@@ -28,7 +22,7 @@ import lombok.extern.slf4j.Slf4j;
 public class NewItemNotificationService {
 
     private final NewItemNotificationMapper notificationMapper;
-    private final OnbidApiService onbidApiService;
+    private final KamcoItemPriceHistoryService priceHistoryService;
 
     /**
      * 전체 공지 조회
@@ -77,81 +71,9 @@ public class NewItemNotificationService {
     }
 
     /**
-     * 카테고리별 물건 조회
+     * 카테고리별 물건 조회 (DB 가격 이력 기반, 온비드 API 호출 없음)
      */
     public List<ItemWithHistory> getItemsWithHistory(String category) {
-        List<Item> items = onbidApiService.getUnifyUsageCltr(null, 1, 1000);
-
-        // 카테고리 필터 적용
-        if (category != null && !category.isEmpty() && !"all".equals(category)) {
-            items = items.stream()
-                .filter(item -> category.equals(item.getScrnGrpCd()))
-                .collect(Collectors.toList());
-        }
-
-        // 물건번호(CLTR_NO)별로 그룹화
-        Map<String, List<Item>> groupedByCltrNo = items.stream()
-            .collect(Collectors.groupingBy(
-                item -> item.getCltrNo() != null ? item.getCltrNo() : item.getCltrMnmtNo(),
-                LinkedHashMap::new,
-                Collectors.toList()
-            ));
-
-        List<ItemWithHistory> result = new ArrayList<>();
-
-        for (Map.Entry<String, List<Item>> entry : groupedByCltrNo.entrySet()) {
-            List<Item> itemList = entry.getValue();
-
-            // 입찰시작일시로 정렬 (오름차순: 과거 -> 미래)
-            itemList.sort(Comparator.comparing(
-                item -> item.getPbctBegnDtm() != null ? item.getPbctBegnDtm() : "",
-                Comparator.naturalOrder()
-            ));
-
-            ItemWithHistory itemHistory = new ItemWithHistory();
-
-            // 첫 번째 아이템에서 공통 정보 추출
-            Item firstItem = itemList.get(0);
-            itemHistory.setCltrNo(entry.getKey());
-            itemHistory.setCltrMnmtNo(firstItem.getCltrMnmtNo());
-            itemHistory.setCltrNm(firstItem.getCltrNm());
-            itemHistory.setCtgrFullNm(firstItem.getCtgrFullNm());
-            itemHistory.setGoodsNm(firstItem.getGoodsNm());
-            itemHistory.setLdnmAdrs(firstItem.getLdnmAdrs());
-            itemHistory.setNmrdAdrs(firstItem.getNmrdAdrs());
-
-            // 최신 입찰 = 입찰시작일시가 가장 늦은 것 (가장 최근 공고)
-            Item latestItem = itemList.get(itemList.size() - 1);
-            itemHistory.setLatest(latestItem);
-
-            // 과거 입찰 이력 = 최신을 제외한 나머지 (오래된 순서대로)
-            List<Item> pastItems = itemList.size() > 1 
-                ? new ArrayList<>(itemList.subList(0, itemList.size() - 1))
-                : new ArrayList<>();
-            itemHistory.setPast(pastItems);
-
-            // 통계 정보
-            itemHistory.setTotalBidCount(itemList.size());
-
-            // 가격 분석
-            Item oldestItem = itemList.get(0);
-            Long firstPrice = oldestItem.getApslAsesAvgAmt();
-            itemHistory.setFirstPrice(firstPrice);
-
-            Long currentPrice = latestItem.getMinBidPrc();
-            itemHistory.setCurrentPrice(currentPrice);
-
-            if (firstPrice != null && currentPrice != null && firstPrice > 0) {
-                double dropRate = ((firstPrice - currentPrice) * 100.0) / firstPrice;
-                itemHistory.setPriceDropRate(Math.round(dropRate * 100.0) / 100.0);
-            }
-
-            result.add(itemHistory);
-        }
-
-        log.info("✅ 물건별 이력 분석 완료: {}개 물건", result.size());
-
-        return result;
+        return priceHistoryService.getItemsWithHistory(category);
     }
 }
-
@@ -0,0 +1,188 @@
+package com.api.item.service;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.springframework.stereotype.Component;
+
+import com.api.item.domain.Item;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 온비드 XML 응답 스트리밍 파서 (StAX)
+ * - DOM 전체를 만들지 않고 HTTP InputStream 에서 바로 Item 목록을 읽음
+ * - XMLInputFactory 는 설정 후 스레드 안전하므로 한 번만 생성해 재사용
+ * - 태그명 → setter 매핑 테이블로 필드당 getElementsByTagName 탐색 제거
+ */
+@Slf4j
+@Component
+public class OnbidItemXmlParser {
+
+    private static final String ITEM_TAG = "item";
+
+    private static final Map<String, BiConsumer<Item, String>> FIELD_SETTERS = new HashMap<>();
+
+    static {
+        // 기본 식별 정보
+        FIELD_SETTERS.put("RNUM", Item::setRnum);
+        FIELD_SETTERS.put("PLNM_NO", Item::setPlnmNo);
+        FIELD_SETTERS.put("PBCT_NO", Item::setPbctNo);
+        FIELD_SETTERS.put("ORG_BASE_NO", Item::setOrgBaseNo);
+        FIELD_SETTERS.put("ORG_NM", Item::setOrgNm);
+        FIELD_SETTERS.put("PBCT_CDTN_NO", Item::setPbctCdtnNo);
+        FIELD_SETTERS.put("CLTR_NO", Item::setCltrNo);
+        FIELD_SETTERS.put("CLTR_MNMT_NO", Item::setCltrMnmtNo);
+        FIELD_SETTERS.put("SCRN_GRP_CD", Item::setScrnGrpCd);
+        FIELD_SETTERS.put("CTGR_ID", Item::setCtgrId);
+        FIELD_SETTERS.put("CTGR_FULL_NM", Item::setCtgrFullNm);
+        FIELD_SETTERS.put("BID_MNMT_NO", Item::setBidMnmtNo);
+        FIELD_SETTERS.put("CLTR_HSTR_NO", Item::setCltrHstrNo);
+
+        // 물건 정보
+        FIELD_SETTERS.put("CLTR_NM", Item::setCltrNm);
+        FIELD_SETTERS.put("GOODS_NM", Item::setGoodsNm);
+        FIELD_SETTERS.put("MANF", Item::setManf);
+
+        // 주소 정보
+        FIELD_SETTERS.put("LDNM_ADRS", Item::setLdnmAdrs);
+        FIELD_SETTERS.put("NMRD_ADRS", Item::setNmrdAdrs);
+        FIELD_SETTERS.put("ROD_NM", Item::setRodNm);
+        FIELD_SETTERS.put("BLD_NO", Item::setBldNo);
+
+        // 처분/입찰 방식
+        FIELD_SETTERS.put("DPSL_MTD_CD", Item::setDpslMtdCd);
+        FIELD_SETTERS.put("DPSL_MTD_NM", Item::setDpslMtdNm);
+        FIELD_SETTERS.put("BID_MTD_NM", Item::setBidMtdNm);
+
+        // 가격 정보
+        FIELD_SETTERS.put("MIN_BID_PRC", (item, text) -> item.setMinBidPrc(toPrice("MIN_BID_PRC", text)));
+        FIELD_SETTERS.put("APSL_ASES_AVG_AMT", (item, text) -> item.setApslAsesAvgAmt(toPrice("APSL_ASES_AVG_AMT", text)));
+        FIELD_SETTERS.put("FEE_RATE", Item::setFeeRate);
+
+        // 입찰 일정
+        FIELD_SETTERS.put("PBCT_BEGN_DTM", Item::setPbctBegnDtm);
+        FIELD_SETTERS.put("PBCT_CLS_DTM", Item::setPbctClsDtm);
+
+        // 상태 및 통계
+        FIELD_SETTERS.put("PBCT_CLTR_STAT_NM", Item::setPbctCltrStatNm);
+        FIELD_SETTERS.put("USCBD_CNT", (item, text) -> item.setUscbCnt(toInteger(text)));
+        FIELD_SETTERS.put("IQRY_CNT", (item, text) -> item.setIqryCnt(toInteger(text)));
+    }
+
+    private final XMLInputFactory inputFactory;
+
+    public OnbidItemXmlParser() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        // XXE 방지 (DOCTYPE 이 있는 문서는 readItems 에서 거부)
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        this.inputFactory = factory;
+    }
+
+    /**
+     * HTTP 응답 스트림에서 바로 Item 목록 파싱 (인코딩은 XML 선언에서 감지)
+     */
+    public List<Item> parse(InputStream inputStream) {
+        if (inputStream == null) {
+            log.warn("⚠️ XML 응답 스트림이 null입니다.");
+            return new ArrayList<>();
+        }
+        try {
+            XMLStreamReader reader = inputFactory.createXMLStreamReader(inputStream);
+            return readItems(reader);
+        } catch (XMLStreamException e) {
+            log.error("❌ XML 파싱 오류: {}", e.getMessage());
+            return new ArrayList<>();
+        }
+    }
+
+    private List<Item> readItems(XMLStreamReader reader) throws XMLStreamException {
+        List<Item> items = new ArrayList<>();
+        String totalCount = null;
+        String resultMsg = null;
+        Item current = null;
+
+        try {
+            while (reader.hasNext()) {
+                int event = reader.next();
+
+                if (event == XMLStreamConstants.DTD) {
+                    // 온비드 응답에는 DOCTYPE 이 없음 - 엔티티 선언이 있는 문서는 읽지 않고 거부
+                    throw new XMLStreamException("DOCTYPE 선언은 허용하지 않습니다.", reader.getLocation());
+                }
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    String tag = reader.getLocalName();
+
+                    if (ITEM_TAG.equals(tag)) {
+                        current = new Item();
+                    } else if (current != null) {
+                        BiConsumer<Item, String> setter = FIELD_SETTERS.get(tag);
+                        if (setter != null) {
+                            setter.accept(current, reader.getElementText());
+                        }
+                    } else if ("totalCount".equals(tag)) {
+                        totalCount = reader.getElementText();
+                    } else if ("resultMsg".equals(tag)) {
+                        resultMsg = reader.getElementText();
+                    }
+                } else if (event == XMLStreamConstants.END_ELEMENT && current != null
+                        && ITEM_TAG.equals(reader.getLocalName())) {
+                    items.add(current);
+                    current = null;
+                }
+            }
+        } finally {
+            reader.close();
+        }
+
+        if (totalCount != null) {
+            log.info("📊 API 응답 totalCount: {}", totalCount);
+        }
+        if (items.isEmpty()) {
+            log.warn("⚠️ XML에 item 노드가 없습니다. API resultMsg: {}", resultMsg);
+        }
+        log.info("✅ XML 파싱 완료! 총 {}개 아이템", items.size());
+        return items;
+    }
+
+    /**
+     * 가격 파싱 (쉼표/공백 제거, 마이너스 값은 null)
+     */
+    private static Long toPrice(String tagName, String text) {
+        if (text == null || text.trim().isEmpty()) return null;
+        String cleaned = text.replaceAll("[^0-9-]", "");
+        if (cleaned.isEmpty()) return null;
+        if (cleaned.startsWith("-")) {
+            log.warn("⚠️ API에서 마이너스 가격 발견! {}: {}", tagName, text);
+            return null;
+        }
+        try {
+            return Long.parseLong(cleaned);
+        } catch (NumberFormatException e) {
+            log.warn("Failed to parse long value for {}: {}", tagName, text);
+            return null;
+        }
+    }
+
+    private static Integer toInteger(String text) {
+        if (text == null || text.trim().isEmpty()) return null;
+        String cleaned = text.replaceAll("[^0-9]", "");
+        if (cleaned.isEmpty()) return null;
+        try {
+            return Integer.parseInt(cleaned);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
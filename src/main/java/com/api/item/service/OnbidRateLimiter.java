@@ -0,0 +1,97 @@
+package com.api.item.service;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 온비드 API 호출용 토큰 버킷 Rate Limiter
+ * - 동기화 작업 전체가 하나의 버킷을 공유하여 API 쿼터를 넘지 않도록 제어
+ * - 고정 Thread.sleep 대신 사용 (버스트 허용 + 평균 속도 제한)
+ * - 가상 스레드 pinning 방지를 위해 synchronized 대신 ReentrantLock 사용, 대기는 락 밖에서 수행
+ */
+@Slf4j
+@Component
+public class OnbidRateLimiter {
+
+    private final double permitsPerSecond;
+    private final double maxPermits;
+    private final long intervalNanos;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // 현재 저장된 토큰 수
+    private double storedPermits;
+
+    // 다음 토큰을 사용할 수 있는 시각 (System.nanoTime 기준)
+    private long nextFreeNanos;
+
+    public OnbidRateLimiter(
+            @Value("${onbid.api.rate-limit.permits-per-second:2}") double permitsPerSecond,
+            @Value("${onbid.api.rate-limit.burst:4}") int burst) {
+        if (permitsPerSecond <= 0) {
+            throw new IllegalArgumentException("onbid.api.rate-limit.permits-per-second는 0보다 커야 합니다.");
+        }
+        this.permitsPerSecond = permitsPerSecond;
+        this.maxPermits = Math.max(1, burst);
+        this.intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond);
+        this.storedPermits = this.maxPermits;
+        this.nextFreeNanos = System.nanoTime();
+        log.info("✅ 온비드 API Rate Limiter 초기화: 초당 {}회, 버스트 {}", permitsPerSecond, (int) maxPermits);
+    }
+
+    /**
+     * 토큰 1개 획득 (필요 시 대기)
+     *
+     * @return 실제 대기한 시간(ms)
+     */
+    public long acquire() throws InterruptedException {
+        long waitNanos = reserve();
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+        return TimeUnit.NANOSECONDS.toMillis(waitNanos);
+    }
+
+    /**
+     * 토큰 1개를 예약하고 대기해야 할 시간(ns)을 반환
+     */
+    private long reserve() {
+        lock.lock();
+        try {
+            long now = System.nanoTime();
+            refill(now);
+
+            if (storedPermits >= 1) {
+                storedPermits -= 1;
+            } else {
+                // 부족한 만큼 다음 토큰 시각을 뒤로 미루고 그 시각까지 대기
+                double missing = 1 - storedPermits;
+                storedPermits = 0;
+                nextFreeNanos += (long) (missing * intervalNanos);
+            }
+            return Math.max(0, nextFreeNanos - now);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 경과 시간만큼 토큰 보충
+     */
+    private void refill(long now) {
+        if (now > nextFreeNanos) {
+            double newPermits = (double) (now - nextFreeNanos) / intervalNanos;
+            storedPermits = Math.min(maxPermits, storedPermits + newPermits);
+            nextFreeNanos = now;
+        }
+    }
+
+    public double getPermitsPerSecond() {
+        return permitsPerSecond;
+    }
+}
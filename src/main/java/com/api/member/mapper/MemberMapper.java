@@ -17,6 +17,11 @@ public interface MemberMapper {
 	
 	Member getMemberInfo(String id);
 	
+	/**
+	 * 회원 일괄 조회 (IN)
+	 */
+	List<Member> getMembersByIds(@Param("ids") List<String> ids);
+	
 	/**
 	 * 전체 회원 목록 조회
 	 */
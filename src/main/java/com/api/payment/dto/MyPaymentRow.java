@@ -0,0 +1,30 @@
+package com.api.payment.dto;
+
+import java.sql.Timestamp;
+
+import com.api.payment.domain.Payment;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 내 결제 내역 조회 행 (결제 + 경매/공매 물건 정보 JOIN 결과)
+ * - 같은 물건(경매 번호 / 물건번호 / 물건 ID)의 결제는 SQL 에서 가장 최근 1건만 남김
+ */
+@Data
+@NoArgsConstructor
+public class MyPaymentRow {
+
+    private Payment payment;
+
+    // 경매 (auction_no 가 있는 경우)
+    private String auctionName;
+    private Timestamp auctionEndDate;
+
+    // 공매 물건 (item_id 또는 cltr_no 로 JOIN)
+    private Long kamcoItemId;
+    private String kamcoCltrNo;
+    private String kamcoCltrNm;
+    private String kamcoGoodsNm;
+    private String kamcoPbctClsDtm;
+}
@@ -1,7 +1,7 @@
 package com.api.payment.dto;
 
 import java.sql.Timestamp;
-import java.text.SimpleDateFormat;
+import java.time.format.DateTimeFormatter;
 import com.api.payment.domain.Payment;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -17,6 +17,8 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 public class PaymentResponse {
     
+    private static final DateTimeFormatter DISPLAY_DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+    
     private Long id;
     private Integer auctionNo;
     private Long itemId;
@@ -108,13 +110,12 @@ public class PaymentResponse {
     /**
      * 날짜 포맷팅 헬퍼 메서드
      */
-    private static String formatTimestamp(Timestamp timestamp, String pattern) {
+    private static String formatTimestamp(Timestamp timestamp) {
         if (timestamp == null) {
             return "-";
         }
         try {
-            SimpleDateFormat sdf = new SimpleDateFormat(pattern);
-            return sdf.format(timestamp);
+            return timestamp.toLocalDateTime().format(DISPLAY_DATE_TIME);
         } catch (Exception e) {
             return "-";
         }
@@ -124,8 +125,8 @@ public class PaymentResponse {
      * 포맷된 날짜 문자열 설정
      */
     public void formatDates() {
-        this.formattedCreatedDate = formatTimestamp(this.createdDate, "yyyy-MM-dd HH:mm");
-        this.formattedDeadlineDate = formatTimestamp(this.deadlineDate, "yyyy-MM-dd HH:mm");
+        this.formattedCreatedDate = formatTimestamp(this.createdDate);
+        this.formattedDeadlineDate = formatTimestamp(this.deadlineDate);
     }
 }
 
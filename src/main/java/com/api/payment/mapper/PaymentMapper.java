@@ -7,6 +7,7 @@ import org.apache.ibatis.annotations.Param;
 
 import com.api.payment.domain.Payment;
 import com.api.payment.domain.PaymentHistory;
+import com.api.payment.dto.MyPaymentRow;
 
 @Mapper
 public interface PaymentMapper {
@@ -29,6 +30,9 @@ public interface PaymentMapper {
     // 회원의 결제 내역 조회
     List<Payment> selectPaymentsByMemberId(@Param("memberId") String memberId);
     
+    // 내 결제 내역 조회 (경매/공매 물건 정보 JOIN, 물건별 최근 1건)
+    List<MyPaymentRow> selectMyPaymentRows(@Param("memberId") String memberId);
+    
     // 회원과 auction/item에 대한 기존 payment 조회 (중복 체크용)
     Payment selectPaymentByMemberAndItem(
             @Param("memberId") String memberId,
@@ -0,0 +1,277 @@
+package com.api.payment.service;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.api.payment.domain.Payment;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 인스턴스 로컬 결제 준비 정보 저장소
+ * - 최대 항목 수 + 저장 후 TTL 로 제한 (중단된 결제가 쌓이지 않도록)
+ * - 가장 오래 저장된 항목부터 밀어냄 (insertion-order LinkedHashMap)
+ * - 만료 항목은 조회 시와 주기적 정리 시 제거
+ * - 결제 ID / 경매 번호 조회는 저장 시점 값으로 만든 보조 색인 사용 (전체 순회 없음)
+ * - hit/miss/expired/eviction 메트릭 제공 (/api/admin/metrics/pending-payments)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "payment.pending-store.type", havingValue = "local", matchIfMissing = true)
+public class LocalPendingPaymentStore implements PendingPaymentStore {
+
+    private final int maxEntries;
+    private final long ttlMillis;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<String, Entry> entries;
+    // 보조 색인 (lock 으로 보호, entries 에서 빠질 때 함께 제거)
+    private final Map<Long, String> merchantUidById = new HashMap<>();
+    private final Map<Integer, Set<String>> merchantUidsByAuctionNo = new HashMap<>();
+
+    private final LongAdder puts = new LongAdder();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder removals = new LongAdder();
+
+    /** paymentId/auctionNo: 색인에 쓴 저장 시점 값 */
+    private record Entry(long storedAt, Long paymentId, Integer auctionNo, Payment payment) {
+    }
+
+    public LocalPendingPaymentStore(
+            @Value("${payment.pending-store.max-entries:10000}") int maxEntries,
+            @Value("${payment.pending-store.ttl-minutes:30}") long ttlMinutes) {
+        this.maxEntries = Math.max(1, maxEntries);
+        this.ttlMillis = ttlMinutes * 60_000L;
+        this.entries = new LinkedHashMap<>(16, 0.75f, false) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                if (size() > LocalPendingPaymentStore.this.maxEntries) {
+                    evictions.increment();
+                    unindex(eldest.getKey(), eldest.getValue());
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    @Override
+    public void put(Payment payment) {
+        if (payment == null || payment.getMerchantUid() == null) {
+            return;
+        }
+        lock.lock();
+        try {
+            // 재저장 시 순서를 갱신하도록 먼저 제거
+            String merchantUid = payment.getMerchantUid();
+            Entry previous = entries.remove(merchantUid);
+            if (previous != null) {
+                unindex(merchantUid, previous);
+            }
+            Entry entry = new Entry(currentTimeMillis(), payment.getId(), payment.getAuctionNo(), payment);
+            entries.put(merchantUid, entry);
+            index(merchantUid, entry);
+        } finally {
+            lock.unlock();
+        }
+        puts.increment();
+    }
+
+    @Override
+    public Payment get(String merchantUid) {
+        if (merchantUid == null) {
+            return null;
+        }
+        lock.lock();
+        try {
+            return record(liveEntry(merchantUid, currentTimeMillis()));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void remove(String merchantUid) {
+        if (merchantUid == null) {
+            return;
+        }
+        lock.lock();
+        try {
+            Entry removed = entries.remove(merchantUid);
+            if (removed != null) {
+                unindex(merchantUid, removed);
+                removals.increment();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Payment findById(Long paymentId) {
+        if (paymentId == null) {
+            return record(null);
+        }
+        lock.lock();
+        try {
+            String merchantUid = merchantUidById.get(paymentId);
+            return record(merchantUid != null ? liveEntry(merchantUid, currentTimeMillis()) : null);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 경매 번호로 조회 (같은 경매의 준비 정보가 여럿이면 가장 먼저 저장된 것)
+     */
+    @Override
+    public Payment findByAuctionNo(Integer auctionNo) {
+        if (auctionNo == null) {
+            return record(null);
+        }
+        lock.lock();
+        try {
+            Set<String> merchantUids = merchantUidsByAuctionNo.get(auctionNo);
+            if (merchantUids != null) {
+                long now = currentTimeMillis();
+                // 만료 제거가 색인 집합을 바꾸므로 복사본으로 순회
+                for (String merchantUid : List.copyOf(merchantUids)) {
+                    Entry entry = liveEntry(merchantUid, now);
+                    if (entry != null) {
+                        return record(entry);
+                    }
+                }
+            }
+            return record(null);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** lock 보유 상태에서 호출 - 만료됐으면 제거하고 null */
+    private Entry liveEntry(String merchantUid, long now) {
+        Entry entry = entries.get(merchantUid);
+        if (entry != null && isExpired(entry, now)) {
+            entries.remove(merchantUid);
+            unindex(merchantUid, entry);
+            expirations.increment();
+            return null;
+        }
+        return entry;
+    }
+
+    /** lock 보유 상태에서 호출 */
+    private void index(String merchantUid, Entry entry) {
+        if (entry.paymentId() != null) {
+            merchantUidById.put(entry.paymentId(), merchantUid);
+        }
+        if (entry.auctionNo() != null) {
+            merchantUidsByAuctionNo.computeIfAbsent(entry.auctionNo(), key -> new LinkedHashSet<>()).add(merchantUid);
+        }
+    }
+
+    /** lock 보유 상태에서 호출 */
+    private void unindex(String merchantUid, Entry entry) {
+        if (entry.paymentId() != null) {
+            merchantUidById.remove(entry.paymentId(), merchantUid);
+        }
+        if (entry.auctionNo() != null) {
+            Set<String> merchantUids = merchantUidsByAuctionNo.get(entry.auctionNo());
+            if (merchantUids != null) {
+                merchantUids.remove(merchantUid);
+                if (merchantUids.isEmpty()) {
+                    merchantUidsByAuctionNo.remove(entry.auctionNo());
+                }
+            }
+        }
+    }
+
+    private Payment record(Entry entry) {
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.payment();
+    }
+
+    /**
+     * 만료 항목 정리 (주기 실행)
+     * - 저장 순서 = 만료 순서이므로 앞에서부터 만료되지 않은 항목을 만나면 중단
+     */
+    @Scheduled(fixedDelayString = "${payment.pending-store.purge-interval-ms:60000}")
+    public void purgeExpired() {
+        long now = currentTimeMillis();
+        int purged = 0;
+        lock.lock();
+        try {
+            Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<String, Entry> next = iterator.next();
+                if (!isExpired(next.getValue(), now)) {
+                    break;
+                }
+                iterator.remove();
+                unindex(next.getKey(), next.getValue());
+                purged++;
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (purged > 0) {
+            expirations.add(purged);
+            log.debug("🧹 만료된 결제 준비 정보 정리: {}건", purged);
+        }
+    }
+
+    @Override
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        long total = hitCount + missCount;
+        int size;
+        lock.lock();
+        try {
+            size = entries.size();
+        } finally {
+            lock.unlock();
+        }
+        stats.put("type", "local");
+        stats.put("size", size);
+        stats.put("maxEntries", maxEntries);
+        stats.put("ttlMinutes", ttlMillis / 60_000L);
+        stats.put("puts", puts.sum());
+        stats.put("hits", hitCount);
+        stats.put("misses", missCount);
+        stats.put("hitRate", total == 0 ? 0.0 : (double) hitCount / total);
+        stats.put("expirations", expirations.sum());
+        stats.put("evictions", evictions.sum());
+        stats.put("removals", removals.sum());
+        return stats;
+    }
+
+    private boolean isExpired(Entry entry, long now) {
+        return ttlMillis > 0 && now - entry.storedAt() > ttlMillis;
+    }
+
+    /** 테스트에서 시계를 바꿀 수 있도록 분리 */
+    long currentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+}
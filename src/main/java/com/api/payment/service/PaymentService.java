@@ -1,8 +1,11 @@
 package com.api.payment.service;
 
 import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
@@ -11,10 +14,12 @@ import org.springframework.transaction.annotation.Transactional;
 import com.api.config.IamportConfig;
 import com.api.payment.domain.Payment;
 import com.api.payment.domain.PaymentHistory;
+import com.api.payment.dto.MyPaymentRow;
 import com.api.payment.dto.PaymentResponse;
 import com.api.auction.domain.Auction;
 import com.api.member.domain.Member;
 import com.api.common.dto.ServiceResponse;
+import com.api.common.util.SnowflakeIdGenerator;
 import com.api.payment.mapper.PaymentMapper;
 
 import lombok.RequiredArgsConstructor;
@@ -32,8 +37,12 @@ public class PaymentService {
 	private final com.api.item.service.KamcoItemService kamcoItemService;
 	private final IamportConfig iamportConfig;
 
-	// 결제 정보를 메모리에 임시 저장 (결제 완료 전까지)
-	private final Map<String, Payment> paymentStore = new ConcurrentHashMap<>();
+	// 결제 준비 정보 임시 저장소 (결제 완료 전까지, 크기/TTL 제한)
+	private final PendingPaymentStore pendingPaymentStore;
+	private final SnowflakeIdGenerator idGenerator;
+
+	private static final DateTimeFormatter PBCT_DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+	private static final Pattern NON_DIGIT = Pattern.compile("[^0-9]");
 
 	/**
 	 * 결제 준비 요청 처리
@@ -268,7 +277,7 @@ public class PaymentService {
 		payment.setStatus("ready");
 		payment.setCreatedDate(new Timestamp(System.currentTimeMillis()));
 
-		String merchantUid = "merchant_" + System.currentTimeMillis() + "_" + memberId;
+		String merchantUid = idGenerator.nextMerchantUid();
 		payment.setMerchantUid(merchantUid);
 
 		// Payment 객체의 실제 값 확인 (디버깅)
@@ -291,8 +300,8 @@ public class PaymentService {
 			throw new RuntimeException("결제 준비에 실패했습니다: " + e.getMessage(), e);
 		}
 
-		// 메모리에도 임시 저장 (결제 완료 전까지)
-		paymentStore.put(merchantUid, payment);
+		// 임시 저장소에도 저장 (결제 완료 전까지)
+		pendingPaymentStore.put(payment);
 		return payment;
 	}
 
@@ -303,9 +312,9 @@ public class PaymentService {
 		// 먼저 DB에서 조회 시도
 		Payment payment = paymentMapper.selectPaymentByMerchantUid(merchantUid);
 
-		// DB에 없으면 메모리에서 조회
+		// DB에 없으면 임시 저장소에서 조회
 		if (payment == null) {
-			payment = paymentStore.get(merchantUid);
+			payment = pendingPaymentStore.get(merchantUid);
 		}
 
 		if (payment == null) {
@@ -314,7 +323,7 @@ public class PaymentService {
 			return result;
 		}
 
-		payment.setImpUid(impUid != null ? impUid : "imp_" + System.currentTimeMillis());
+		payment.setImpUid(impUid != null ? impUid : idGenerator.nextId("imp_"));
 		payment.setStatus("paid");
 		payment.setPaidAt(new Timestamp(System.currentTimeMillis()));
 		payment.setUpdatedDate(new Timestamp(System.currentTimeMillis()));
@@ -330,6 +339,9 @@ public class PaymentService {
 		history.setDescription("결제가 완료되었습니다. imp_uid: " + impUid);
 		paymentMapper.insertPaymentHistory(history);
 
+		// 완료된 결제는 임시 저장소에서 제거
+		pendingPaymentStore.remove(merchantUid);
+
 		result.put("success", true);
 		result.put("payment", payment);
 		return result;
@@ -345,8 +357,8 @@ public class PaymentService {
 			return payment;
 		}
 
-		// DB에 없으면 메모리에서 조회
-		return paymentStore.values().stream().filter(p -> p.getId().equals(paymentId)).findFirst().orElse(null);
+		// DB에 없으면 임시 저장소에서 조회
+		return pendingPaymentStore.findById(paymentId);
 	}
 
 	/**
@@ -359,8 +371,8 @@ public class PaymentService {
 			return payment;
 		}
 
-		// DB에 없으면 메모리에서 조회
-		return paymentStore.get(merchantUid);
+		// DB에 없으면 임시 저장소에서 조회
+		return pendingPaymentStore.get(merchantUid);
 	}
 
 	/**
@@ -373,8 +385,8 @@ public class PaymentService {
 			return payment;
 		}
 
-		// DB에 없으면 메모리에서 조회
-		return paymentStore.values().stream().filter(p -> p.getAuctionNo().equals(auctionNo)).findFirst().orElse(null);
+		// DB에 없으면 임시 저장소에서 조회
+		return pendingPaymentStore.findByAuctionNo(auctionNo);
 	}
 
 	/**
@@ -417,6 +429,7 @@ public class PaymentService {
 		history.setDescription("결제가 취소되었습니다. 사유: " + reason);
 		paymentMapper.insertPaymentHistory(history);
 
+		pendingPaymentStore.remove(payment.getMerchantUid());
 		return true;
 	}
 
@@ -434,6 +447,7 @@ public class PaymentService {
 
 			// DB에서 삭제
 			paymentMapper.deletePayment(paymentId);
+			pendingPaymentStore.remove(payment.getMerchantUid());
 			log.info("Payment 삭제 완료: paymentId={}", paymentId);
 			return true;
 		} catch (Exception e) {
@@ -877,113 +891,47 @@ public class PaymentService {
 	}
 
 	/**
-	 * 내 결제 내역 데이터 준비 (중복 제거 및 정보 조회 포함)
+	 * 내 결제 내역 데이터 준비
+	 * - 경매/공매 물건 정보 JOIN 과 물건별 중복 제거(최근 1건)를 쿼리 한 번으로 처리
 	 */
 	private List<PaymentResponse> prepareMyPaymentsData(String memberId) {
 		try {
-			List<Payment> payments = getPaymentsByMemberId(memberId);
-
-			// 중복 제거: 같은 auctionNo/itemId/cltrNo에 대한 payment 중 가장 최근 것만 유지
-			// itemId와 cltrNo는 같은 물건을 나타낼 수 있으므로 통합 처리
-			Map<String, Payment> uniquePayments = new LinkedHashMap<>();
-			for (Payment payment : payments) {
-				String key = generatePaymentKey(payment);
-
-				// itemId만 있고 cltrNo가 없는 경우, KamcoItem을 조회하여 cltrNo 기반 키로 변환
-				if (payment.getItemId() != null && (payment.getCltrNo() == null || payment.getCltrNo().isEmpty())) {
-					try {
-						com.api.item.domain.KamcoItem kamcoItem = getKamcoItemById(payment.getItemId());
-						if (kamcoItem != null && kamcoItem.getCltrNo() != null && !kamcoItem.getCltrNo().isEmpty()) {
-							// cltrNo 기반 키로 변경 (더 고유함)
-							key = "cltr_" + kamcoItem.getCltrNo();
-						}
-					} catch (Exception e) {
-						log.warn("KamcoItem 조회 실패로 인한 키 변환 실패: itemId={}, error={}", payment.getItemId(),
-								e.getMessage());
-					}
-				}
-
-				// 중복 제거: 같은 키가 없거나, 현재 payment가 더 최근이면 업데이트
-				if (!uniquePayments.containsKey(key)) {
-					uniquePayments.put(key, payment);
-				} else {
-					Payment existing = uniquePayments.get(key);
-					// createdDate null 체크 및 비교
-					Timestamp currentDate = payment.getCreatedDate();
-					Timestamp existingDate = existing.getCreatedDate();
-
-					if (currentDate != null && existingDate != null) {
-						if (currentDate.after(existingDate)) {
-							uniquePayments.put(key, payment);
-						}
-					} else if (currentDate != null && existingDate == null) {
-						// 현재 payment에만 날짜가 있으면 현재 것으로 교체
-						uniquePayments.put(key, payment);
-					}
-					// 둘 다 null이거나 existing만 있으면 기존 것 유지
-				}
-			}
-
-			// Domain 리스트를 DTO 리스트로 변환
-			return uniquePayments.values().stream().map(payment -> {
+			List<MyPaymentRow> rows = paymentMapper.selectMyPaymentRows(memberId);
+			List<PaymentResponse> responses = new ArrayList<>(rows.size());
+			for (MyPaymentRow row : rows) {
+				Payment payment = row.getPayment();
 				PaymentResponse response = PaymentResponse.from(payment);
-				// 각 Payment에 대한 Auction/KamcoItem 정보 조회하여 deadlineDate와 itemName 설정
 				try {
 					if (payment.getAuctionNo() != null) {
-						Auction auction = auctionService.getAuction(payment.getAuctionNo());
-						if (auction != null) {
-							if (auction.getEndDate() != null) {
-								response.setDeadlineDate(new Timestamp(auction.getEndDate().getTime()));
-							}
-							if (response.getItemName() == null || response.getItemName().isEmpty()) {
-								response.setItemName(auction.getName());
-							}
+						if (row.getAuctionEndDate() != null) {
+							response.setDeadlineDate(row.getAuctionEndDate());
+						}
+						if (response.getItemName() == null || response.getItemName().isEmpty()) {
+							response.setItemName(row.getAuctionName());
+						}
+					} else if (row.getKamcoItemId() != null) {
+						Timestamp deadline = parsePbctDateTime(row.getKamcoPbctClsDtm());
+						if (deadline != null) {
+							response.setDeadlineDate(deadline);
 						}
-					} else if (payment.getItemId() != null) {
-						com.api.item.domain.KamcoItem kamcoItem = getKamcoItemById(payment.getItemId());
-						if (kamcoItem != null) {
-							if (kamcoItem.getPbctClsDtm() != null) {
-								String dateStr = kamcoItem.getPbctClsDtm().replaceAll("[^0-9]", "");
-								if (dateStr.length() >= 14) {
-									java.util.Date date = new java.text.SimpleDateFormat("yyyyMMddHHmmss")
-											.parse(dateStr);
-									response.setDeadlineDate(new Timestamp(date.getTime()));
-								}
-							}
-							if (response.getItemName() == null || response.getItemName().isEmpty()) {
-								response.setItemName(
-										kamcoItem.getCltrNm() != null ? kamcoItem.getCltrNm() : kamcoItem.getGoodsNm());
-							}
-							if (response.getCltrNo() == null || response.getCltrNo().isEmpty()) {
-								response.setCltrNo(kamcoItem.getCltrNo());
-							}
+						if (response.getItemName() == null || response.getItemName().isEmpty()) {
+							response.setItemName(
+									row.getKamcoCltrNm() != null ? row.getKamcoCltrNm() : row.getKamcoGoodsNm());
 						}
-					} else if (payment.getCltrNo() != null) {
-						com.api.item.domain.KamcoItem kamcoItem = getKamcoItemByCltrNo(payment.getCltrNo());
-						if (kamcoItem != null) {
-							if (kamcoItem.getPbctClsDtm() != null) {
-								String dateStr = kamcoItem.getPbctClsDtm().replaceAll("[^0-9]", "");
-								if (dateStr.length() >= 14) {
-									java.util.Date date = new java.text.SimpleDateFormat("yyyyMMddHHmmss")
-											.parse(dateStr);
-									response.setDeadlineDate(new Timestamp(date.getTime()));
-								}
-							}
-							if (response.getItemName() == null || response.getItemName().isEmpty()) {
-								response.setItemName(
-										kamcoItem.getCltrNm() != null ? kamcoItem.getCltrNm() : kamcoItem.getGoodsNm());
-							}
-							if (response.getItemId() == null) {
-								response.setItemId(kamcoItem.getId());
-							}
+						if (response.getCltrNo() == null || response.getCltrNo().isEmpty()) {
+							response.setCltrNo(row.getKamcoCltrNo());
+						}
+						if (response.getItemId() == null) {
+							response.setItemId(row.getKamcoItemId());
 						}
 					}
 				} catch (Exception e) {
-					log.warn("입찰 정보 조회 실패: paymentId={}, error={}", payment.getId(), e.getMessage());
+					log.warn("입찰 정보 설정 실패: paymentId={}, error={}", payment.getId(), e.getMessage());
 				}
 				response.formatDates();
-				return response;
-			}).collect(java.util.stream.Collectors.toList());
+				responses.add(response);
+			}
+			return responses;
 		} catch (Exception e) {
 			log.error("내 결제 내역 데이터 준비 중 오류 발생", e);
 			return new ArrayList<>();
@@ -991,31 +939,21 @@ public class PaymentService {
 	}
 
 	/**
-	 * Payment의 고유 키 생성 (중복 체크용) 같은 물건을 나타내는 payment는 같은 키를 반환해야 함
+	 * 공매 입찰일시 문자열(yyyyMMddHHmmss, 구분자 포함 가능) → Timestamp
 	 */
-	private String generatePaymentKey(Payment payment) {
-		if (payment == null) {
-			return "null";
-		}
-
-		// auctionNo가 있으면 auction 기반 키 사용
-		if (payment.getAuctionNo() != null) {
-			return "auction_" + payment.getAuctionNo();
+	private Timestamp parsePbctDateTime(String value) {
+		if (value == null) {
+			return null;
 		}
-
-		// itemId와 cltrNo는 같은 물건을 나타낼 수 있으므로 통합 처리
-		// cltrNo가 있으면 우선 사용 (더 고유함)
-		if (payment.getCltrNo() != null && !payment.getCltrNo().isEmpty()) {
-			return "cltr_" + payment.getCltrNo();
+		String digits = NON_DIGIT.matcher(value).replaceAll("");
+		if (digits.length() < 14) {
+			return null;
 		}
-
-		// itemId가 있으면 사용
-		if (payment.getItemId() != null) {
-			return "item_" + payment.getItemId();
+		try {
+			return Timestamp.valueOf(LocalDateTime.parse(digits.substring(0, 14), PBCT_DATE_TIME));
+		} catch (DateTimeParseException e) {
+			return null;
 		}
-
-		// 모든 식별자가 없으면 개별 키 사용 (중복 제거 불가)
-		return "unknown_" + payment.getId();
 	}
 
 	/**
@@ -1029,12 +967,9 @@ public class PaymentService {
 				com.api.item.domain.KamcoItem kamcoItem = payment.getItemId() != null
 						? getKamcoItemById(payment.getItemId())
 						: getKamcoItemByCltrNo(payment.getCltrNo());
-				if (kamcoItem != null && kamcoItem.getPbctClsDtm() != null) {
-					String dateStr = kamcoItem.getPbctClsDtm().replaceAll("[^0-9]", "");
-					if (dateStr.length() >= 14) {
-						java.util.Date date = new java.text.SimpleDateFormat("yyyyMMddHHmmss").parse(dateStr);
-						response.setDeadlineDate(new Timestamp(date.getTime()));
-					}
+				Timestamp deadline = kamcoItem != null ? parsePbctDateTime(kamcoItem.getPbctClsDtm()) : null;
+				if (deadline != null) {
+					response.setDeadlineDate(deadline);
 				}
 			}
 		} catch (Exception e) {
@@ -0,0 +1,44 @@
+package com.api.payment.service;
+
+import java.util.Map;
+
+import com.api.payment.domain.Payment;
+
+/**
+ * 결제 완료 전(ready) 결제 정보 임시 저장소
+ * - 원본은 항상 DB(KNPayment)이고, 이 저장소는 DB 조회 실패 시의 보조 조회용
+ * - 기본은 인스턴스 로컬 구현(LocalPendingPaymentStore), 여러 인스턴스가 공유해야 하면
+ *   payment.pending-store.type 을 바꾸고 공유 저장소 구현을 빈으로 등록
+ */
+public interface PendingPaymentStore {
+
+    /**
+     * 결제 준비 정보 저장 (merchantUid 기준)
+     */
+    void put(Payment payment);
+
+    /**
+     * 주문번호로 조회 (없거나 만료면 null)
+     */
+    Payment get(String merchantUid);
+
+    /**
+     * 결제 완료/취소 시 제거
+     */
+    void remove(String merchantUid);
+
+    /**
+     * 결제 ID로 조회 (없거나 만료면 null)
+     */
+    Payment findById(Long paymentId);
+
+    /**
+     * 경매 번호로 조회 (없거나 만료면 null)
+     */
+    Payment findByAuctionNo(Integer auctionNo);
+
+    /**
+     * 저장소 메트릭
+     */
+    Map<String, Object> getStats();
+}
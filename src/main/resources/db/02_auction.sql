@@ -30,3 +30,15 @@ CREATE TABLE IF NOT EXISTS KNAuction (
     FOREIGN KEY (buyer) REFERENCES KNMember(id) ON DELETE SET NULL
 ) COMMENT '경매 정보';
 
+-- 경매 입찰 이력 (추가 전용 - 응찰이 받아들여질 때마다 1행)
+CREATE TABLE IF NOT EXISTS KNAuctionBid (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY COMMENT '입찰 ID',
+    auction_no INT NOT NULL COMMENT '경매 번호',
+    bidder_id VARCHAR(50) NOT NULL COMMENT '입찰자 ID',
+    bid_price INT NOT NULL COMMENT '입찰가',
+    bid_date TIMESTAMP DEFAULT CURRENT_TIMESTAMP COMMENT '입찰일',
+    
+    FOREIGN KEY (auction_no) REFERENCES KNAuction(no) ON DELETE CASCADE,
+    INDEX idx_auction_bid_auction (auction_no, id),
+    INDEX idx_auction_bid_bidder (bidder_id, auction_no)
+) COMMENT '경매 입찰 이력';
@@ -35,3 +35,25 @@ CREATE TABLE IF NOT EXISTS KNPriceAlert (
     INDEX idx_created_date (created_date)
 ) COMMENT '가격 알림 히스토리';
 
+-- 메일 발송 대기열 (가격 알림 등 외부 메일은 이 테이블을 거쳐 워커가 발송)
+CREATE TABLE IF NOT EXISTS KNMailOutbox (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY COMMENT '메일 ID',
+    member_id VARCHAR(50) COMMENT '회원 ID',
+    to_email VARCHAR(255) NOT NULL COMMENT '수신자 이메일',
+    recipient_name VARCHAR(100) COMMENT '수신자 이름',
+    mail_type VARCHAR(30) NOT NULL COMMENT '메일 유형 (PRICE_DROP, GENERAL)',
+    subject VARCHAR(500) NOT NULL COMMENT '제목',
+    body TEXT NOT NULL COMMENT '본문 (다이제스트 유형은 항목 본문)',
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING' COMMENT '상태 (PENDING, SENDING, SENT, FAILED)',
+    attempts INT NOT NULL DEFAULT 0 COMMENT '발송 시도 횟수',
+    next_attempt_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '다음 발송 시각',
+    claim_token VARCHAR(64) COMMENT '선점한 워커 토큰',
+    claimed_at TIMESTAMP NULL COMMENT '선점 시각',
+    last_error VARCHAR(500) COMMENT '마지막 오류',
+    created_date TIMESTAMP DEFAULT CURRENT_TIMESTAMP COMMENT '생성일',
+    sent_date TIMESTAMP NULL COMMENT '발송일',
+    
+    INDEX idx_mail_outbox_due (status, next_attempt_at),
+    INDEX idx_mail_outbox_claim (claim_token)
+) COMMENT '메일 발송 대기열';
+
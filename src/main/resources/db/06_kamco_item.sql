@@ -63,12 +63,16 @@ CREATE TABLE IF NOT EXISTS "KNKamcoItem" (
     is_new BOOLEAN DEFAULT true,
     is_active BOOLEAN DEFAULT true,
     api_sync_date TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    content_hash VARCHAR(64),
     
     -- 관리 일시
     created_date TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_date TIMESTAMP DEFAULT CURRENT_TIMESTAMP
 );
 
+-- 기존 테이블 마이그레이션: 증분 동기화용 내용 해시 컬럼
+ALTER TABLE "KNKamcoItem" ADD COLUMN IF NOT EXISTS content_hash VARCHAR(64);
+
 -- 인덱스 생성
 CREATE INDEX IF NOT EXISTS idx_cltr_no ON "KNKamcoItem"(cltr_no);
 CREATE INDEX IF NOT EXISTS idx_pbct_cls_dtm ON "KNKamcoItem"(pbct_cls_dtm);
@@ -77,6 +81,9 @@ CREATE INDEX IF NOT EXISTS idx_is_new ON "KNKamcoItem"(is_new);
 CREATE INDEX IF NOT EXISTS idx_view_count ON "KNKamcoItem"(view_count);
 CREATE INDEX IF NOT EXISTS idx_interest_count ON "KNKamcoItem"(interest_count);
 CREATE INDEX IF NOT EXISTS idx_min_bid_prc ON "KNKamcoItem"(min_bid_prc);
+-- 키셋 페이지네이션 (created_date DESC, id DESC)
+CREATE INDEX IF NOT EXISTS idx_kamco_item_keyset ON "KNKamcoItem"(created_date DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_kamco_item_sido_keyset ON "KNKamcoItem"(sido, created_date DESC, id DESC);
 
 -- updated_date 자동 업데이트를 위한 트리거 함수
 CREATE OR REPLACE FUNCTION update_updated_date_column()
@@ -92,6 +99,7 @@ CREATE TRIGGER update_knkamcoitem_updated_date BEFORE UPDATE ON "KNKamcoItem"
     FOR EACH ROW EXECUTE FUNCTION update_updated_date_column();
 
 -- 캠코 온비드 공매 물건 조회 이력 테이블
+-- 월별 파티션(보관 기간이 지난 달 DROP)으로 쓰려면 07_view_log_partition.sql 을 psql 로 1회 실행
 CREATE TABLE IF NOT EXISTS "KNKamcoItemViewLog" (
     id BIGSERIAL PRIMARY KEY,
     item_id BIGINT NOT NULL,
@@ -127,6 +135,7 @@ CREATE TABLE IF NOT EXISTS "KNNewItemNotification" (
 CREATE INDEX IF NOT EXISTS idx_notification_is_displayed ON "KNNewItemNotification"(is_displayed);
 CREATE INDEX IF NOT EXISTS idx_notification_created_date ON "KNNewItemNotification"(created_date);
 CREATE INDEX IF NOT EXISTS idx_notification_type ON "KNNewItemNotification"(notification_type);
+CREATE INDEX IF NOT EXISTS idx_notification_item_type ON "KNNewItemNotification"(item_id, notification_type);
 
 -- 물건 통계 스냅샷 테이블 (일별/주별 통계용)
 CREATE TABLE IF NOT EXISTS "KNKamcoItemStats" (
@@ -143,3 +152,23 @@ CREATE TABLE IF NOT EXISTS "KNKamcoItemStats" (
 );
 
 CREATE INDEX IF NOT EXISTS idx_stats_stat_date ON "KNKamcoItemStats"(stat_date);
+
+-- 물건 가격 이력 테이블 (동기화 시 물건번호 + 공매번호 당 한 점씩 추가만 함)
+-- 물건이 삭제돼도 이력은 남도록 FK 없음, 하락률은 저장 시 계산
+CREATE TABLE IF NOT EXISTS "KNKamcoItemPriceHistory" (
+    id BIGSERIAL PRIMARY KEY,
+    cltr_no VARCHAR(100) NOT NULL,
+    pbct_no VARCHAR(100) NOT NULL,
+    cltr_hstr_no VARCHAR(100),
+    pbct_begn_dtm VARCHAR(20),
+    pbct_cls_dtm VARCHAR(20),
+    min_bid_prc BIGINT,
+    apsl_ases_avg_amt BIGINT,
+    drop_rate NUMERIC(7, 2),
+    uscb_cnt INT,
+    recorded_date TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    
+    CONSTRAINT unique_price_history_point UNIQUE (cltr_no, pbct_no)
+);
+
+CREATE INDEX IF NOT EXISTS idx_price_history_cltr_begn ON "KNKamcoItemPriceHistory"(cltr_no, pbct_begn_dtm);
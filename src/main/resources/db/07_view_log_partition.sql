@@ -0,0 +1,54 @@
+-- =====================================================
+-- 조회 이력 테이블 월별 파티션 전환 (PostgreSQL, 1회 실행)
+-- - spring.sql.init 대상이 아님: $$ 블록이 있으므로 psql 로 직접 실행 (psql -f 07_view_log_partition.sql)
+-- - 06_kamco_item.sql 은 비분할 테이블을 만들고, 이 스크립트로 전환한 뒤 재기동하면 파티션 관리가 켜짐
+-- - 보관 기간(30일) 이내 이력만 옮기고 기존 테이블은 삭제
+-- - retention.view-log-partitioned=true 필요 (이후 달 파티션은 DataRetentionService 가 기동 시/실행 시 생성)
+-- =====================================================
+
+BEGIN;
+
+ALTER TABLE "KNKamcoItemViewLog" RENAME TO "KNKamcoItemViewLog_old";
+ALTER INDEX IF EXISTS idx_viewlog_item_id RENAME TO idx_viewlog_item_id_old;
+ALTER INDEX IF EXISTS idx_viewlog_view_date RENAME TO idx_viewlog_view_date_old;
+
+CREATE TABLE "KNKamcoItemViewLog" (
+    id BIGSERIAL,
+    item_id BIGINT NOT NULL,
+    cltr_no VARCHAR(100) NOT NULL,
+    member_id VARCHAR(50),
+    ip_address VARCHAR(50),
+    user_agent TEXT,
+    view_date TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    
+    PRIMARY KEY (id, view_date),
+    CONSTRAINT fk_viewlog_item FOREIGN KEY (item_id) REFERENCES "KNKamcoItem"(id) ON DELETE CASCADE
+) PARTITION BY RANGE (view_date);
+
+CREATE TABLE "KNKamcoItemViewLog_default" PARTITION OF "KNKamcoItemViewLog" DEFAULT;
+
+-- 옮길 이력이 들어갈 달부터 다음 달까지 파티션 생성 (기본 파티션에 쌓이지 않도록 복사 전에 생성)
+DO $$
+DECLARE
+    m DATE;
+BEGIN
+    FOR m IN SELECT generate_series(date_trunc('month', NOW() - INTERVAL '30 days'), date_trunc('month', NOW()) + INTERVAL '1 month', INTERVAL '1 month')::date LOOP
+        EXECUTE format('CREATE TABLE IF NOT EXISTS %I PARTITION OF "KNKamcoItemViewLog" FOR VALUES FROM (%L) TO (%L)',
+            'KNKamcoItemViewLog_p' || to_char(m, 'YYYYMM'), m, (m + INTERVAL '1 month')::date);
+    END LOOP;
+END $$;
+
+INSERT INTO "KNKamcoItemViewLog"(id, item_id, cltr_no, member_id, ip_address, user_agent, view_date)
+SELECT id, item_id, cltr_no, member_id, ip_address, user_agent, COALESCE(view_date, CURRENT_TIMESTAMP)
+FROM "KNKamcoItemViewLog_old"
+WHERE view_date >= NOW() - INTERVAL '30 days';
+
+SELECT setval(pg_get_serial_sequence('"KNKamcoItemViewLog"', 'id'),
+              (SELECT COALESCE(MAX(id), 0) + 1 FROM "KNKamcoItemViewLog_old"), false);
+
+DROP TABLE "KNKamcoItemViewLog_old";
+
+CREATE INDEX IF NOT EXISTS idx_viewlog_item_id ON "KNKamcoItemViewLog"(item_id);
+CREATE INDEX IF NOT EXISTS idx_viewlog_view_date ON "KNKamcoItemViewLog"(view_date);
+
+COMMIT;
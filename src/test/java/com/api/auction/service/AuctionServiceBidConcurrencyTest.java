@@ -0,0 +1,115 @@
+package com.api.auction.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.api.auction.dto.BidResult;
+import com.api.item.service.KamcoItemService;
+
+/**
+ * 한 경매에 동시 응찰 (조건부 UPDATE placeBid + 이력 insertBid)
+ * - 받아들여진 응찰 수 = count = 이력 행 수, 최고가 = 받아들여진 응찰 중 최댓값
+ * - 스레드마다 자기 트랜잭션으로 커밋해야 하므로 테스트 트랜잭션은 쓰지 않음
+ */
+@MybatisTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:auction-bid;MODE=MySQL;LOCK_TIMEOUT=10000;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.hikari.maximum-pool-size=20",
+        "spring.sql.init.mode=never"
+})
+@Import(AuctionService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Sql("/db/auction-bid-test.sql")
+class AuctionServiceBidConcurrencyTest {
+
+    private static final int AUCTION_NO = 1;
+    private static final int START_PRICE = 1000;
+    private static final int THREADS = 16;
+    private static final int BIDS_PER_THREAD = 50;
+
+    @Autowired
+    private AuctionService auctionService;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @MockBean
+    private KamcoItemService kamcoItemService;
+
+    @MockBean
+    private AuctionPriceStreamService priceStreamService;
+
+    @Test
+    void 동시_응찰에서_최고가와_응찰_수와_이력이_일치() throws Exception {
+        // 서로 다른 입찰가 (시작가 미만 일부 포함)를 섞어 스레드에 나눔
+        List<Integer> prices = new ArrayList<>();
+        for (int i = 0; i < THREADS * BIDS_PER_THREAD; i++) {
+            prices.add(START_PRICE - 100 + i * 7);
+        }
+        Collections.shuffle(prices);
+
+        ConcurrentLinkedQueue<Integer> accepted = new ConcurrentLinkedQueue<>();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            List<Integer> mine = prices.subList(t * BIDS_PER_THREAD, (t + 1) * BIDS_PER_THREAD);
+            String buyer = "bidder" + t;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int price : mine) {
+                    BidResult result = auctionService.bid(AUCTION_NO, buyer, price);
+                    if (result.accepted()) {
+                        accepted.add(price);
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        Integer endPrice = jdbc.queryForObject("SELECT endprice FROM KNAuction WHERE no = ?", Integer.class, AUCTION_NO);
+        Integer count = jdbc.queryForObject("SELECT count FROM KNAuction WHERE no = ?", Integer.class, AUCTION_NO);
+        Integer bidRows = jdbc.queryForObject("SELECT COUNT(*) FROM KNAuctionBid WHERE auction_no = ?", Integer.class, AUCTION_NO);
+        Integer maxBidRow = jdbc.queryForObject("SELECT MAX(bid_price) FROM KNAuctionBid WHERE auction_no = ?", Integer.class, AUCTION_NO);
+
+        int maxAccepted = accepted.stream().mapToInt(Integer::intValue).max().orElseThrow();
+        assertThat(accepted).isNotEmpty();
+        assertThat(endPrice).isEqualTo(maxAccepted).isEqualTo(Collections.max(prices));
+        assertThat(count).isEqualTo(accepted.size());
+        assertThat(bidRows).isEqualTo(accepted.size());
+        assertThat(maxBidRow).isEqualTo(maxAccepted);
+        assertThat(accepted).allSatisfy(price -> assertThat(price).isGreaterThanOrEqualTo(START_PRICE));
+    }
+}
@@ -0,0 +1,149 @@
+package com.api.common.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+class SnowflakeIdGeneratorTest {
+
+    private static final long EPOCH = 1735689600000L;
+    private static final int NODE_ID = 7;
+
+    /** 시계를 직접 조정하는 생성기 */
+    private static final class ManualClockGenerator extends SnowflakeIdGenerator {
+        private final AtomicLong now;
+
+        ManualClockGenerator(long startMillis) {
+            super(NODE_ID);
+            this.now = new AtomicLong(startMillis);
+        }
+
+        @Override
+        long currentTimeMillis() {
+            return now.get();
+        }
+
+        void set(long millis) {
+            now.set(millis);
+        }
+    }
+
+    @Test
+    void 여러_스레드에서_중복_없고_스레드별로_증가() throws Exception {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(NODE_ID);
+        int threads = 8;
+        int perThread = 50_000;
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<long[]>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                long[] ids = new long[perThread];
+                start.await();
+                for (int i = 0; i < perThread; i++) {
+                    ids[i] = generator.nextId();
+                }
+                return ids;
+            }));
+        }
+        start.countDown();
+
+        Set<Long> all = new HashSet<>(threads * perThread);
+        for (Future<long[]> future : futures) {
+            long[] ids = future.get();
+            for (int i = 0; i < ids.length; i++) {
+                if (i > 0) {
+                    assertThat(ids[i]).isGreaterThan(ids[i - 1]);
+                }
+                all.add(ids[i]);
+            }
+        }
+        executor.shutdown();
+
+        assertThat(all).hasSize(threads * perThread);
+    }
+
+    @Test
+    void 시계가_뒤로_가면_마지막_ms_를_이어서_사용() {
+        ManualClockGenerator generator = new ManualClockGenerator(EPOCH + 10_000);
+        long before = generator.nextId();
+
+        generator.set(EPOCH + 5_000);
+        long afterRollback = generator.nextId();
+
+        assertThat(afterRollback).isGreaterThan(before);
+        assertThat(millis(afterRollback)).isEqualTo(10_000);
+        assertThat(sequence(afterRollback)).isEqualTo(sequence(before) + 1);
+        assertThat(node(afterRollback)).isEqualTo(NODE_ID);
+
+        // 시계가 따라잡으면 새 ms 의 순번 0 부터
+        generator.set(EPOCH + 10_001);
+        long caughtUp = generator.nextId();
+        assertThat(millis(caughtUp)).isEqualTo(10_001);
+        assertThat(sequence(caughtUp)).isZero();
+    }
+
+    @Test
+    void 순번이_넘치면_다음_ms_로_넘어감() {
+        ManualClockGenerator generator = new ManualClockGenerator(EPOCH + 20_000);
+        long previous = generator.nextId();
+        for (int i = 1; i < 4096; i++) {
+            long id = generator.nextId();
+            assertThat(id).isGreaterThan(previous);
+            previous = id;
+        }
+        assertThat(millis(previous)).isEqualTo(20_000);
+        assertThat(sequence(previous)).isEqualTo(4095);
+
+        // 같은 ms 의 4097번째 ID
+        long overflow = generator.nextId();
+        assertThat(overflow).isGreaterThan(previous);
+        assertThat(millis(overflow)).isEqualTo(20_001);
+        assertThat(sequence(overflow)).isZero();
+        assertThat(node(overflow)).isEqualTo(NODE_ID);
+    }
+
+    @Test
+    void 고정_길이_Base32_문자열_정렬이_숫자_정렬과_같음() {
+        ManualClockGenerator generator = new ManualClockGenerator(EPOCH);
+        List<String> generated = new ArrayList<>();
+        // 1ms 부터 수십 년 뒤까지 자릿수가 바뀌는 경계를 넘도록 시각을 늘려가며 생성
+        for (long offset = 1; offset < 1L << 40; offset = offset * 3 + 1) {
+            generator.set(EPOCH + offset);
+            for (int i = 0; i < 3; i++) {
+                generated.add(generator.nextId("merchant_"));
+            }
+        }
+
+        assertThat(generated).allSatisfy(id -> assertThat(id).hasSize("merchant_".length() + 13));
+        List<String> sorted = new ArrayList<>(generated);
+        Collections.shuffle(sorted);
+        Collections.sort(sorted);
+        assertThat(sorted).containsExactlyElementsOf(generated);
+        assertThat(new HashSet<>(generated)).hasSize(generated.size());
+    }
+
+    private static long millis(long id) {
+        return id >>> 22;
+    }
+
+    private static long node(long id) {
+        return (id >>> 12) & 1023;
+    }
+
+    private static long sequence(long id) {
+        return id & 4095;
+    }
+}
@@ -0,0 +1,152 @@
+package com.api.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assumptions.assumeThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.web.client.RestTemplateAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import com.api.item.domain.Item;
+import com.api.item.service.OnbidApiService;
+import com.api.item.service.OnbidItemXmlParser;
+import com.api.item.service.OnbidRateLimiter;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * 가상 스레드에서 온비드 호출 경로(OnbidRateLimiter → OnbidApiService → 풀링 RestTemplate)가 캐리어를 고정하지 않는지
+ * - RestTemplate 은 RestTemplateConfig 빈 그대로 (HttpClient 5 커넥션 풀, 라우트당 연결보다 많은 동시 호출로 풀 대기까지 포함)
+ * - 판정은 VirtualThreadPinningMonitor 의 JFR jdk.VirtualThreadPinned 집계로 함 (프레임 필터 없음)
+ * - 호출 뒤 일부러 고정을 일으키는 카나리를 실행해, 카나리 이벤트가 도착한 시점에 앞선 이벤트도 모두 집계됐음을 보장
+ */
+class VirtualThreadPinningTest {
+
+    private static final int UPSTREAM_DELAY_MS = 50;
+    private static final int REQUESTS = 200;
+    private static final int MAX_PER_ROUTE = 20;
+    private static final long THRESHOLD_MS = 10;
+    private static final String CANARY_SITE = VirtualThreadPinningTest.class.getName() + ".pinCarrier:";
+    private static final Object CANARY_LOCK = new Object();
+
+    private HttpServer upstream;
+    private ExecutorService upstreamExecutor;
+    private VirtualThreadPinningMonitor monitor;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        upstream = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 1000);
+        upstream.createContext("/getUnifyUsageCltr", exchange -> {
+            try {
+                Thread.sleep(UPSTREAM_DELAY_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = ("<?xml version=\"1.0\" encoding=\"UTF-8\"?><response><body><items>"
+                    + "<item><CLTR_NO>1001</CLTR_NO><CLTR_NM>서울특별시 강남구 역삼동 101-1</CLTR_NM></item>"
+                    + "</items><totalCount>1</totalCount></body></response>").getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        upstreamExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        upstream.setExecutor(upstreamExecutor);
+        upstream.start();
+
+        // JDBC 드라이버 점검은 이 테스트 대상이 아니므로 연결 실패로 건너뜀
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenThrow(new SQLException("테스트: DB 없음"));
+        monitor = new VirtualThreadPinningMonitor(dataSource, true, true, THRESHOLD_MS);
+        monitor.onReady();
+    }
+
+    @AfterEach
+    void tearDown() {
+        monitor.shutdown();
+        upstream.stop(0);
+        upstreamExecutor.shutdownNow();
+    }
+
+    @Test
+    void 가상_스레드에서_온비드_호출_경로가_캐리어를_고정하지_않음() throws Exception {
+        // JDK 24 부터는 synchronized 안 대기가 고정을 일으키지 않아 카나리로 집계 완료를 확인할 수 없음
+        assumeThat(Runtime.version().feature()).isLessThan(24);
+        assumeThat(monitor.getStats().get("pinningMonitorRunning")).as("JFR 사용 가능").isEqualTo(true);
+
+        new ApplicationContextRunner()
+                .withConfiguration(AutoConfigurations.of(RestTemplateAutoConfiguration.class))
+                .withUserConfiguration(RestTemplateConfig.class)
+                .withBean(OnbidItemXmlParser.class)
+                .withBean(OnbidApiService.class)
+                .withPropertyValues(
+                        "http.client.pool.max-per-route=" + MAX_PER_ROUTE,
+                        "onbid.api.service-key=test-key",
+                        "onbid.api.base-url=http://127.0.0.1:" + upstream.getAddress().getPort())
+                .run(context -> {
+                    OnbidApiService onbidApiService = context.getBean(OnbidApiService.class);
+                    OnbidRateLimiter rateLimiter = new OnbidRateLimiter(10_000, REQUESTS);
+
+                    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                        List<Future<List<Item>>> futures = new ArrayList<>(REQUESTS);
+                        for (int i = 0; i < REQUESTS; i++) {
+                            futures.add(executor.submit(() -> {
+                                rateLimiter.acquire();
+                                return onbidApiService.getUnifyUsageCltr("서울특별시", 1, 10);
+                            }));
+                        }
+                        for (Future<List<Item>> future : futures) {
+                            assertThat(future.get()).extracting(Item::getCltrNo).containsExactly("1001");
+                        }
+                    }
+                });
+
+        Thread canary = Thread.ofVirtual().start(VirtualThreadPinningTest::pinCarrier);
+        assertThat(awaitCanary(canary)).as("카나리 pinning 이벤트 수신").isTrue();
+
+        assertThat(pinnedSites().keySet()).allSatisfy(site -> assertThat(site).startsWith(CANARY_SITE));
+    }
+
+    /** synchronized 안에서 잠들어 캐리어를 기준 시간 이상 고정 */
+    private static void pinCarrier() {
+        synchronized (CANARY_LOCK) {
+            try {
+                Thread.sleep(THRESHOLD_MS * 5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private boolean awaitCanary(Thread canary) throws InterruptedException {
+        canary.join();
+        long deadline = System.nanoTime() + 10_000_000_000L;
+        while (System.nanoTime() < deadline) {
+            if (pinnedSites().keySet().stream().anyMatch(site -> site.startsWith(CANARY_SITE))) {
+                return true;
+            }
+            Thread.sleep(100);
+        }
+        return false;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Long> pinnedSites() {
+        return (Map<String, Long>) monitor.getStats().get("pinnedSites");
+    }
+}
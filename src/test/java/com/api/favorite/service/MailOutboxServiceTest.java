@@ -0,0 +1,247 @@
+package com.api.favorite.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import com.api.common.util.SnowflakeIdGenerator;
+import com.api.favorite.domain.MailOutbox;
+import com.api.favorite.mapper.MailOutboxMapper;
+
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+
+/**
+ * 메일 outbox 발송: 다이제스트 묶음, 일부 실패(getFailedMessages) 처리, 백오프/FAILED 전환
+ * - DB 는 MailOutboxMapper 목, SMTP 는 send 호출을 기록하는 JavaMailSender 스텁
+ */
+class MailOutboxServiceTest {
+
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long BASE_BACKOFF_MS = 1_000;
+    private static final long MAX_BACKOFF_MS = 4_000;
+
+    /** 실제 MimeMessage 를 만들고, 전송 대신 기록 (지정한 수신자는 실패로 보고) */
+    private static final class RecordingMailSender extends JavaMailSenderImpl {
+        private final List<MimeMessage[]> sendCalls = new ArrayList<>();
+        private Set<String> failingRecipients = Set.of();
+        private boolean failAllWithoutDetail;
+
+        @Override
+        protected synchronized void doSend(MimeMessage[] mimeMessages, Object[] originalMessages) {
+            sendCalls.add(mimeMessages);
+            if (failAllWithoutDetail) {
+                throw new MailSendException("SMTP 연결 실패");
+            }
+            Map<Object, Exception> failures = new LinkedHashMap<>();
+            for (MimeMessage message : mimeMessages) {
+                if (failingRecipients.contains(recipient(message))) {
+                    failures.put(message, new MessagingException("550 mailbox unavailable"));
+                }
+            }
+            if (!failures.isEmpty()) {
+                throw new MailSendException(failures);
+            }
+        }
+
+        List<MimeMessage> sent() {
+            List<MimeMessage> all = new ArrayList<>();
+            for (MimeMessage[] call : sendCalls) {
+                all.addAll(List.of(call));
+            }
+            return all;
+        }
+    }
+
+    private final MailOutboxMapper mapper = mock(MailOutboxMapper.class);
+    private final RecordingMailSender mailSender = new RecordingMailSender();
+    private MailOutboxService service;
+
+    @BeforeEach
+    void setUp() {
+        // 워커 1개: 선점한 메일이 한 번의 send(MimeMessage...) 로 나감
+        service = new MailOutboxService(mapper, mailSender, new SnowflakeIdGenerator(1),
+                true, 100, 1, MAX_ATTEMPTS, BASE_BACKOFF_MS, MAX_BACKOFF_MS, 600_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void 같은_수신자의_가격_하락_알림은_다이제스트_한_통() throws Exception {
+        claim(
+                mail(1, "A@example.com", MailOutbox.TYPE_PRICE_DROP, "가격 하락: 물건1", "물건1 본문", 0),
+                mail(2, "a@example.com", MailOutbox.TYPE_PRICE_DROP, "가격 하락: 물건2", "물건2 본문", 0),
+                mail(3, "a@example.com", MailOutbox.TYPE_PRICE_DROP, "가격 하락: 물건3", "물건3 본문", 0),
+                mail(4, "b@example.com", MailOutbox.TYPE_PRICE_DROP, "가격 하락: 물건4", "물건4 본문", 0),
+                mail(5, "a@example.com", MailOutbox.TYPE_GENERAL, "공지", "공지 본문", 0));
+
+        service.dispatch();
+
+        assertThat(mailSender.sendCalls).hasSize(1);
+        List<MimeMessage> sent = mailSender.sent();
+        assertThat(sent).hasSize(3);
+
+        MimeMessage digest = find(sent, "가격 하락: 물건1 외 2건");
+        assertThat(recipient(digest)).isEqualToIgnoringCase("a@example.com");
+        assertThat((String) digest.getContent())
+                .contains("3건의 가격이 하락했습니다")
+                .contains("물건1 본문", "물건2 본문", "물건3 본문")
+                .doesNotContain("물건4 본문", "공지 본문");
+        assertThat(find(sent, "가격 하락: 물건4").getContent()).asString().contains("물건4 본문");
+        assertThat(find(sent, "공지").getContent()).isEqualTo("공지 본문");
+
+        verify(mapper).markSent(eq(List.of(1L, 2L, 3L)), any());
+        verify(mapper).markSent(eq(List.of(4L)), any());
+        verify(mapper).markSent(eq(List.of(5L)), any());
+        verify(mapper, never()).markRetry(anyList(), anyInt(), any(), any());
+        assertThat(service.getStats()).containsEntry("digests", 1L).containsEntry("sentMails", 5L);
+    }
+
+    @Test
+    void 일부_메시지만_실패하면_실패한_메시지만_재시도() {
+        mailSender.failingRecipients = Set.of("b@example.com");
+        claim(
+                mail(1, "a@example.com", MailOutbox.TYPE_GENERAL, "s1", "b1", 0),
+                mail(2, "b@example.com", MailOutbox.TYPE_GENERAL, "s2", "b2", 0),
+                mail(3, "c@example.com", MailOutbox.TYPE_GENERAL, "s3", "b3", 0));
+
+        LocalDateTime before = LocalDateTime.now();
+        service.dispatch();
+        LocalDateTime after = LocalDateTime.now();
+
+        verify(mapper).markSent(eq(List.of(1L)), any());
+        verify(mapper).markSent(eq(List.of(3L)), any());
+        verify(mapper, never()).markSent(eq(List.of(2L)), any());
+
+        ArgumentCaptor<LocalDateTime> nextAttemptAt = ArgumentCaptor.forClass(LocalDateTime.class);
+        ArgumentCaptor<String> error = ArgumentCaptor.forClass(String.class);
+        verify(mapper).markRetry(eq(List.of(2L)), eq(1), nextAttemptAt.capture(), error.capture());
+        // 1회차 지연: base 의 절반 ~ base
+        assertThat(nextAttemptAt.getValue())
+                .isAfterOrEqualTo(before.plusNanos(BASE_BACKOFF_MS / 2 * 1_000_000))
+                .isBeforeOrEqualTo(after.plusNanos(BASE_BACKOFF_MS * 1_000_000));
+        assertThat(error.getValue()).contains("550");
+    }
+
+    @Test
+    void 실패_목록_없는_전송_오류는_모두_재시도() {
+        mailSender.failAllWithoutDetail = true;
+        claim(
+                mail(1, "a@example.com", MailOutbox.TYPE_GENERAL, "s1", "b1", 0),
+                mail(2, "b@example.com", MailOutbox.TYPE_GENERAL, "s2", "b2", 1));
+
+        service.dispatch();
+
+        verify(mapper).markRetry(eq(List.of(1L)), eq(1), any(), anyString());
+        verify(mapper).markRetry(eq(List.of(2L)), eq(2), any(), anyString());
+        verify(mapper, never()).markSent(anyList(), any());
+    }
+
+    @Test
+    void 백오프는_시도마다_두_배이고_상한을_넘지_않음() {
+        mailSender.failAllWithoutDetail = true;
+        MailOutboxService patient = new MailOutboxService(mapper, mailSender, new SnowflakeIdGenerator(1),
+                true, 100, 1, 10, BASE_BACKOFF_MS, MAX_BACKOFF_MS, 600_000);
+        try {
+            // 2회차: base × 2 = 2s → 1s ~ 2s
+            claim(mail(1, "a@example.com", MailOutbox.TYPE_GENERAL, "s1", "b1", 1));
+            assertRetryDelay(patient, 1L, 2, BASE_BACKOFF_MS, 2 * BASE_BACKOFF_MS);
+
+            // 6회차: base × 32 = 32s → 상한 4s → 2s ~ 4s
+            claim(mail(2, "b@example.com", MailOutbox.TYPE_GENERAL, "s2", "b2", 5));
+            assertRetryDelay(patient, 2L, 6, MAX_BACKOFF_MS / 2, MAX_BACKOFF_MS);
+        } finally {
+            patient.shutdown();
+        }
+    }
+
+    private void assertRetryDelay(MailOutboxService target, long id, int attempts, long minMs, long maxMs) {
+        LocalDateTime before = LocalDateTime.now();
+        target.dispatch();
+        LocalDateTime after = LocalDateTime.now();
+
+        ArgumentCaptor<LocalDateTime> nextAttemptAt = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(mapper).markRetry(eq(List.of(id)), eq(attempts), nextAttemptAt.capture(), anyString());
+        assertThat(nextAttemptAt.getValue())
+                .isAfterOrEqualTo(before.plusNanos(minMs * 1_000_000))
+                .isBeforeOrEqualTo(after.plusNanos(maxMs * 1_000_000));
+    }
+
+    @Test
+    void 최대_시도_횟수에_닿으면_FAILED() {
+        mailSender.failingRecipients = Set.of("a@example.com");
+        // 다이제스트 묶음은 가장 많이 시도한 메일 기준으로 회차 계산
+        claim(
+                mail(1, "a@example.com", MailOutbox.TYPE_PRICE_DROP, "s1", "b1", 1),
+                mail(2, "a@example.com", MailOutbox.TYPE_PRICE_DROP, "s2", "b2", MAX_ATTEMPTS - 1));
+
+        service.dispatch();
+
+        verify(mapper).markFailed(eq(List.of(1L, 2L)), eq(MAX_ATTEMPTS), anyString());
+        verify(mapper, never()).markRetry(anyList(), anyInt(), any(), any());
+        assertThat(service.getStats()).containsEntry("failed", 2L);
+    }
+
+    private void claim(MailOutbox... mails) {
+        List<Long> ids = new ArrayList<>();
+        for (MailOutbox mail : mails) {
+            ids.add(mail.getId());
+        }
+        when(mapper.findDueIds(any(), anyInt())).thenReturn(ids);
+        when(mapper.findByClaimToken(anyString())).thenReturn(List.of(mails));
+    }
+
+    private static MailOutbox mail(long id, String toEmail, String type, String subject, String body, int attempts) {
+        MailOutbox mail = new MailOutbox();
+        mail.setId(id);
+        mail.setToEmail(toEmail);
+        mail.setRecipientName("회원" + id);
+        mail.setMailType(type);
+        mail.setSubject(subject);
+        mail.setBody(body);
+        mail.setAttempts(attempts);
+        mail.setStatus(MailOutbox.STATUS_SENDING);
+        return mail;
+    }
+
+    private static MimeMessage find(List<MimeMessage> messages, String subject) throws MessagingException {
+        for (MimeMessage message : messages) {
+            if (subject.equals(message.getSubject())) {
+                return message;
+            }
+        }
+        throw new AssertionError("제목이 '" + subject + "' 인 메시지가 없음");
+    }
+
+    private static String recipient(MimeMessage message) {
+        try {
+            return message.getAllRecipients()[0].toString().toLowerCase();
+        } catch (MessagingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
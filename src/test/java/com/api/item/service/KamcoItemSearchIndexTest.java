@@ -0,0 +1,149 @@
+package com.api.item.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.api.item.domain.KamcoItem;
+import com.api.item.mapper.KamcoItemMapper;
+
+/**
+ * 검색 색인: LIKE '%kw%' (대소문자 무시) 와 같은 일치 집합인지 + 순위
+ */
+class KamcoItemSearchIndexTest {
+
+    private final KamcoItemMapper mapper = mock(KamcoItemMapper.class);
+    private KamcoItemSearchIndex index;
+
+    @AfterEach
+    void tearDown() {
+        if (index != null) {
+            index.shutdown();
+        }
+    }
+
+    @Test
+    void 한_글자_검색어는_색인이_처리하지_않음() {
+        assertThat(KamcoItemSearchIndex.canServe("동")).isFalse();
+        assertThat(KamcoItemSearchIndex.canServe("")).isFalse();
+        assertThat(KamcoItemSearchIndex.canServe(null)).isFalse();
+        assertThat(KamcoItemSearchIndex.canServe("역삼")).isTrue();
+    }
+
+    @Test
+    void 단어_중간_부분_문자열도_찾음() throws Exception {
+        build(List.of(
+                item("1", "역삼동 아파트", "서울특별시 강남구 역삼동 101-1", null),
+                item("2", "삼성동 상가", "서울특별시 강남구 삼성동 5", null)));
+
+        assertThat(cltrNos(index.search("삼동", 10))).containsExactlyInAnyOrder("1", "2");
+        assertThat(cltrNos(index.search("역삼동", 10))).containsExactly("1");
+    }
+
+    @Test
+    void 기호가_든_검색어는_한_덩어리로_일치() throws Exception {
+        build(List.of(
+                item("1", "주택", "서울특별시 마포구 101-1", null),
+                item("2", "주택", "서울특별시 마포구 101 1-3", null),
+                item("3", "토지", "경기도 101번지 1", null)));
+
+        assertThat(cltrNos(index.search("101-1", 10))).containsExactly("1");
+    }
+
+    @Test
+    void 필드_경계를_넘는_일치는_제외() throws Exception {
+        build(List.of(item("1", "상가", "강남", "구청")));
+
+        assertThat(index.search("남구", 10)).isEmpty();
+        assertThat(index.search("가강", 10)).isEmpty();
+    }
+
+    @Test
+    void 물건명_일치가_주소_일치보다_앞() throws Exception {
+        build(List.of(
+                item("addr", "토지", "서울특별시 역삼로 1", null),
+                item("name", "역삼 오피스텔", "부산광역시 해운대구", null)));
+
+        assertThat(cltrNos(index.search("역삼", 10))).containsExactly("name", "addr");
+    }
+
+    @Test
+    void 원문_스캔과_같은_결과() throws Exception {
+        List<KamcoItem> items = generate(50_000);
+        build(items);
+
+        for (String keyword : List.of("역삼", "101-1", "아파트", "강남구 역", "상가 3", "없는검색어", "번지")) {
+            assertThat(cltrNos(index.search(keyword, Integer.MAX_VALUE))).as(keyword)
+                    .isEqualTo(likeScan(items, keyword));
+        }
+    }
+
+    private void build(List<KamcoItem> items) throws InterruptedException {
+        when(mapper.findAll()).thenReturn(items);
+        index = new KamcoItemSearchIndex(mapper, true);
+        index.rebuildAsync("test");
+        long deadline = System.currentTimeMillis() + 30_000;
+        while (!index.isReady() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(index.isReady()).isTrue();
+    }
+
+    /** KamcoItemMapper.searchByKeyword 와 같은 조건 (대소문자 무시) */
+    private static Set<String> likeScan(List<KamcoItem> items, String keyword) {
+        String term = keyword.toLowerCase(Locale.ROOT);
+        return items.stream()
+                .filter(item -> contains(item.getCltrNm(), term)
+                        || contains(item.getLdnmAdrs(), term)
+                        || contains(item.getNmrdAdrs(), term))
+                .map(KamcoItem::getCltrNo)
+                .collect(Collectors.toSet());
+    }
+
+    private static boolean contains(String field, String term) {
+        return field != null && field.toLowerCase(Locale.ROOT).contains(term);
+    }
+
+    private static Set<String> cltrNos(List<String> cltrNos) {
+        return new LinkedHashSet<>(cltrNos);
+    }
+
+    private static List<KamcoItem> generate(int count) {
+        String[] gu = {"강남구", "서초구", "마포구", "송파구", "해운대구"};
+        String[] dong = {"역삼동", "삼성동", "서교동", "잠실동", "우동"};
+        String[] kind = {"아파트", "상가", "토지", "오피스텔", "주택"};
+        Random random = new Random(42);
+        List<KamcoItem> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int g = random.nextInt(gu.length);
+            String lot = "서울특별시 " + gu[g] + " " + dong[random.nextInt(dong.length)] + " "
+                    + random.nextInt(300) + "-" + random.nextInt(20) + "번지";
+            String road = random.nextBoolean() ? gu[g] + " 역삼로 " + random.nextInt(500) : null;
+            items.add(item(String.valueOf(i), kind[random.nextInt(kind.length)] + " " + random.nextInt(10), lot, road));
+        }
+        return items;
+    }
+
+    private static KamcoItem item(String cltrNo, String name, String lotAddress, String roadAddress) {
+        KamcoItem item = new KamcoItem();
+        item.setId(Long.valueOf(cltrNo.hashCode()));
+        item.setCltrNo(cltrNo);
+        item.setCltrNm(name);
+        item.setLdnmAdrs(lotAddress);
+        item.setNmrdAdrs(roadAddress);
+        item.setCreatedDate(LocalDateTime.of(2025, 1, 1, 0, 0));
+        return item;
+    }
+}
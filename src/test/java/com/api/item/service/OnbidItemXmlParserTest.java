@@ -0,0 +1,72 @@
+package com.api.item.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.api.item.domain.Item;
+
+/**
+ * 온비드 XML 스트리밍 파서: 필드 매핑 + DOCTYPE(외부 엔티티) 거부
+ */
+class OnbidItemXmlParserTest {
+
+    private final OnbidItemXmlParser parser = new OnbidItemXmlParser();
+
+    @Test
+    void 물건_필드와_가격_정규화() {
+        String xml = response(List.of("""
+                <item>
+                  <CLTR_NO>1001</CLTR_NO>
+                  <CLTR_NM>서울특별시 강남구 역삼동 101-1</CLTR_NM>
+                  <MIN_BID_PRC>1,234,000</MIN_BID_PRC>
+                  <APSL_ASES_AVG_AMT>-5</APSL_ASES_AVG_AMT>
+                  <USCBD_CNT>3</USCBD_CNT>
+                  <UNKNOWN_TAG>무시</UNKNOWN_TAG>
+                </item>"""));
+
+        List<Item> items = parse(xml);
+
+        assertThat(items).hasSize(1);
+        Item item = items.get(0);
+        assertThat(item.getCltrNo()).isEqualTo("1001");
+        assertThat(item.getCltrNm()).isEqualTo("서울특별시 강남구 역삼동 101-1");
+        assertThat(item.getMinBidPrc()).isEqualTo(1_234_000L);
+        assertThat(item.getApslAsesAvgAmt()).isNull();
+        assertThat(item.getUscbCnt()).isEqualTo(3);
+    }
+
+    @Test
+    void DOCTYPE_이_있는_문서는_거부() throws Exception {
+        Path secret = Files.createTempFile("onbid-xxe", ".txt");
+        try {
+            Files.writeString(secret, "XXE-SECRET");
+            String body = "<response><body><items><item><CLTR_NO>1001</CLTR_NO><CLTR_NM>&x;</CLTR_NM></item></items></body></response>";
+
+            // 같은 본문에서 DOCTYPE/엔티티만 뺀 문서는 정상 파싱됨 (빈 결과가 구조 문제가 아님을 확인)
+            assertThat(parse("<?xml version=\"1.0\" encoding=\"UTF-8\"?>" + body.replace("&x;", "일반 물건")))
+                    .extracting(Item::getCltrNo).containsExactly("1001");
+
+            String xml = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+                    + "<!DOCTYPE response [<!ENTITY x SYSTEM \"" + secret.toUri() + "\">]>" + body;
+            assertThat(parse(xml)).isEmpty();
+        } finally {
+            Files.deleteIfExists(secret);
+        }
+    }
+
+    private List<Item> parse(String xml) {
+        return parser.parse(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static String response(List<String> items) {
+        return "<?xml version=\"1.0\" encoding=\"UTF-8\"?><response><header><resultMsg>NORMAL SERVICE.</resultMsg></header>"
+                + "<body><items>" + String.join("", items) + "</items><totalCount>" + items.size() + "</totalCount></body></response>";
+    }
+}
@@ -0,0 +1,127 @@
+package com.api.payment.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import com.api.payment.domain.Payment;
+
+class LocalPendingPaymentStoreTest {
+
+    private static final long TTL_MINUTES = 30;
+    private static final long TTL_MS = TTL_MINUTES * 60_000L;
+
+    /** 시계를 직접 조정하는 저장소 */
+    private static final class ManualClockStore extends LocalPendingPaymentStore {
+        private final AtomicLong now = new AtomicLong(1_000_000L);
+
+        ManualClockStore(int maxEntries) {
+            super(maxEntries, TTL_MINUTES);
+        }
+
+        @Override
+        long currentTimeMillis() {
+            return now.get();
+        }
+
+        void advance(long millis) {
+            now.addAndGet(millis);
+        }
+    }
+
+    @Test
+    void TTL_이_지나면_어떤_키로도_조회되지_않음() {
+        ManualClockStore store = new ManualClockStore(100);
+        store.put(payment("m1", 1L, 10));
+
+        store.advance(TTL_MS);
+        assertThat(store.get("m1")).isNotNull();
+
+        store.advance(1);
+        assertThat(store.findById(1L)).isNull();
+        assertThat(store.findByAuctionNo(10)).isNull();
+        assertThat(store.get("m1")).isNull();
+
+        assertThat(store.getStats())
+                .containsEntry("size", 0)
+                .containsEntry("hits", 1L)
+                .containsEntry("misses", 3L)
+                .containsEntry("expirations", 1L);
+    }
+
+    @Test
+    void 주기_정리는_만료된_앞쪽_항목만_제거() {
+        ManualClockStore store = new ManualClockStore(100);
+        store.put(payment("old1", 1L, 10));
+        store.put(payment("old2", 2L, 20));
+        store.advance(TTL_MS / 2);
+        store.put(payment("fresh", 3L, 30));
+
+        store.advance(TTL_MS / 2 + 1);
+        store.purgeExpired();
+
+        assertThat(store.getStats()).containsEntry("size", 1).containsEntry("expirations", 2L);
+        assertThat(store.findById(1L)).isNull();
+        assertThat(store.findByAuctionNo(20)).isNull();
+        assertThat(store.findById(3L).getMerchantUid()).isEqualTo("fresh");
+    }
+
+    @Test
+    void 최대_항목_수를_넘으면_가장_오래된_항목부터_밀어냄() {
+        LocalPendingPaymentStore store = new ManualClockStore(3);
+        for (int i = 1; i <= 5; i++) {
+            store.put(payment("m" + i, (long) i, i));
+        }
+
+        assertThat(store.getStats())
+                .containsEntry("size", 3)
+                .containsEntry("maxEntries", 3)
+                .containsEntry("puts", 5L)
+                .containsEntry("evictions", 2L);
+        // 밀려난 항목은 보조 색인에서도 빠짐
+        assertThat(store.get("m1")).isNull();
+        assertThat(store.findById(2L)).isNull();
+        assertThat(store.findByAuctionNo(2)).isNull();
+        assertThat(store.findById(5L).getMerchantUid()).isEqualTo("m5");
+        assertThat(store.findByAuctionNo(3).getMerchantUid()).isEqualTo("m3");
+    }
+
+    @Test
+    void 재저장하면_순서와_색인이_갱신됨() {
+        LocalPendingPaymentStore store = new ManualClockStore(2);
+        store.put(payment("m1", 1L, 10));
+        store.put(payment("m2", 2L, 20));
+        // m1 을 다른 경매로 다시 저장하면 가장 최근 항목이 되어 다음 밀어내기 대상은 m2
+        store.put(payment("m1", 1L, 11));
+        store.put(payment("m3", 3L, 30));
+
+        assertThat(store.get("m2")).isNull();
+        assertThat(store.findByAuctionNo(10)).isNull();
+        assertThat(store.findByAuctionNo(11).getMerchantUid()).isEqualTo("m1");
+        assertThat(store.getStats()).containsEntry("evictions", 1L);
+    }
+
+    @Test
+    void 같은_경매의_준비_정보는_먼저_저장된_것부터() {
+        LocalPendingPaymentStore store = new ManualClockStore(100);
+        store.put(payment("first", 1L, 10));
+        store.put(payment("second", 2L, 10));
+
+        assertThat(store.findByAuctionNo(10).getMerchantUid()).isEqualTo("first");
+
+        store.remove("first");
+        assertThat(store.findByAuctionNo(10).getMerchantUid()).isEqualTo("second");
+        assertThat(store.findById(1L)).isNull();
+        assertThat(store.getStats()).containsEntry("removals", 1L);
+    }
+
+    private static Payment payment(String merchantUid, Long id, Integer auctionNo) {
+        Payment payment = new Payment();
+        payment.setMerchantUid(merchantUid);
+        payment.setId(id);
+        payment.setAuctionNo(auctionNo);
+        return payment;
+    }
+}
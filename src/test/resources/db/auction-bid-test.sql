@@ -0,0 +1,29 @@
+-- 응찰 동시성 테스트용 스키마 (H2, MySQL 모드) - 02_auction.sql 의 응찰 관련 컬럼만
+DROP TABLE IF EXISTS KNAuctionBid;
+DROP TABLE IF EXISTS KNAuction;
+
+CREATE TABLE KNAuction (
+    no INT AUTO_INCREMENT PRIMARY KEY,
+    id VARCHAR(50),
+    name VARCHAR(200),
+    content TEXT,
+    regdate TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    startdate DATE,
+    enddate DATE,
+    startprice INT,
+    endprice INT,
+    img VARCHAR(500),
+    buyer VARCHAR(50),
+    count INT DEFAULT 0
+);
+
+CREATE TABLE KNAuctionBid (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    auction_no INT NOT NULL,
+    bidder_id VARCHAR(50) NOT NULL,
+    bid_price INT NOT NULL,
+    bid_date TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (auction_no) REFERENCES KNAuction(no) ON DELETE CASCADE
+);
+
+INSERT INTO KNAuction (no, id, name, startprice, endprice, count) VALUES (1, 'seller', '동시 응찰 테스트', 1000, NULL, 0);